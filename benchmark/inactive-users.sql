@@ -0,0 +1,60 @@
+-- Compara os planos da listagem de usuários inativos (GET /v1/users/login-activity?inactiveDays=N)
+-- com o índice da V5, (last_login_at NULLS FIRST, id), e com o índice coberto por id da V12.
+-- Cria um schema temporário com users particionada como na V7 e 10% de usuários inativos.
+--
+-- Uso: psql -h localhost -U postgres -d postgres -v rows=1000000 -f benchmark/inactive-users.sql
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+\timing on
+
+DROP SCHEMA IF EXISTS inactive_bench CASCADE;
+CREATE SCHEMA inactive_bench;
+
+CREATE TABLE inactive_bench.users (
+    id BIGINT NOT NULL,
+    username VARCHAR(50) NOT NULL,
+    username_key VARCHAR(50) NOT NULL,
+    last_login_at TIMESTAMP,
+    login_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (username_key)
+) PARTITION BY HASH (username_key);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE inactive_bench.users_p%s PARTITION OF inactive_bench.users '
+                       'FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END $$;
+
+INSERT INTO inactive_bench.users (id, username, username_key, last_login_at, login_count)
+SELECT g, 'User_' || g, 'user_' || g,
+       CASE WHEN g % 10 = 0 THEN NULL ELSE now() - (g % 30) * interval '1 day' END,
+       CASE WHEN g % 10 = 0 THEN 0 ELSE g % 100 END
+FROM generate_series(1, :rows) g;
+
+CREATE INDEX ON inactive_bench.users(id);
+CREATE INDEX v5_last_login ON inactive_bench.users(last_login_at NULLS FIRST, id);
+VACUUM ANALYZE inactive_bench.users;
+
+PREPARE inactive(timestamp, bigint) AS
+SELECT id, username, last_login_at, login_count FROM inactive_bench.users
+WHERE (last_login_at IS NULL OR last_login_at < $1) AND id > $2
+ORDER BY id LIMIT 51;
+
+\echo '== V5: (last_login_at NULLS FIRST, id) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) EXECUTE inactive(now() - interval '90 days', 0);
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) EXECUTE inactive(now() - interval '90 days', :rows / 2);
+
+DROP INDEX inactive_bench.v5_last_login;
+CREATE INDEX v12_login_activity ON inactive_bench.users(id) INCLUDE (last_login_at, login_count, username);
+VACUUM ANALYZE inactive_bench.users;
+
+\echo '== V12: (id) INCLUDE (last_login_at, login_count, username) =='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) EXECUTE inactive(now() - interval '90 days', 0);
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) EXECUTE inactive(now() - interval '90 days', :rows / 2);
+
+DROP SCHEMA inactive_bench CASCADE;
@@ -0,0 +1,89 @@
+-- Compara a vazão de inserção em users e os planos de consulta antes e depois da V6.
+-- Cria dois schemas temporários com a mesma tabela: "idx_before" com os índices da V1-V3
+-- e "idx_after" com os índices funcionais da V6, e insere os mesmos usuários em ambos.
+--
+-- Uso: psql -h localhost -U postgres -d postgres -v rows=200000 -f benchmark/index-cleanup.sql
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 200000
+\endif
+\timing on
+
+DROP SCHEMA IF EXISTS idx_before CASCADE;
+DROP SCHEMA IF EXISTS idx_after CASCADE;
+CREATE SCHEMA idx_before;
+CREATE SCHEMA idx_after;
+
+CREATE TABLE idx_before.users (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+CREATE UNIQUE INDEX ON idx_before.users(username);
+CREATE UNIQUE INDEX ON idx_before.users(email);
+CREATE INDEX ON idx_before.users(email);
+
+CREATE TABLE idx_after.users (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+CREATE UNIQUE INDEX ON idx_after.users (lower(username));
+CREATE UNIQUE INDEX ON idx_after.users (lower(email));
+
+\echo '== Inserção em lote (antes: 6 índices = PK, 2 UNIQUE e 3 explícitos; depois: 3 índices = PK e 2 funcionais) =='
+\echo 'antes'
+INSERT INTO idx_before.users (username, email, password, created_at, updated_at)
+SELECT 'User_' || g, 'User_' || g || '@example.com', repeat('x', 60), now(), now()
+FROM generate_series(1, :rows) g;
+\echo 'depois'
+INSERT INTO idx_after.users (username, email, password, created_at, updated_at)
+SELECT 'User_' || g, 'User_' || g || '@example.com', repeat('x', 60), now(), now()
+FROM generate_series(1, :rows) g;
+
+\echo '== Inserção linha a linha (10000 registros, como no /auth/register) =='
+\echo 'antes'
+DO $$
+BEGIN
+    FOR i IN 1..10000 LOOP
+        INSERT INTO idx_before.users (username, email, password, created_at, updated_at)
+        VALUES ('Single_' || i, 'Single_' || i || '@example.com', repeat('x', 60), now(), now());
+    END LOOP;
+END $$;
+\echo 'depois'
+DO $$
+BEGIN
+    FOR i IN 1..10000 LOOP
+        INSERT INTO idx_after.users (username, email, password, created_at, updated_at)
+        VALUES ('Single_' || i, 'Single_' || i || '@example.com', repeat('x', 60), now(), now());
+    END LOOP;
+END $$;
+
+ANALYZE idx_before.users;
+ANALYZE idx_after.users;
+
+\echo '== Tamanho dos índices =='
+SELECT n.nspname AS schema, count(*) AS indexes, pg_size_pretty(sum(pg_relation_size(i.indexrelid))) AS total_size
+FROM pg_index i
+JOIN pg_class c ON c.oid = i.indrelid
+JOIN pg_namespace n ON n.oid = c.relnamespace
+WHERE n.nspname IN ('idx_before', 'idx_after') AND c.relname = 'users'
+GROUP BY n.nspname;
+
+\echo '== Busca exata (antes) =='
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM idx_before.users WHERE username = 'User_4242';
+\echo '== Busca case-insensitive sem índice funcional (antes) =='
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM idx_before.users WHERE lower(username) = lower('USER_4242');
+\echo '== Busca case-insensitive com índice funcional (depois) =='
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM idx_after.users WHERE lower(username) = lower('USER_4242');
+EXPLAIN (ANALYZE, BUFFERS) SELECT EXISTS (SELECT 1 FROM idx_after.users WHERE lower(email) = lower('USER_4242@Example.com'));
+
+DROP SCHEMA idx_before CASCADE;
+DROP SCHEMA idx_after CASCADE;
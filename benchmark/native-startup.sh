@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# Compara a inicialização e a memória da aplicação empacotada como JAR (JVM)
+# com a imagem nativa do GraalVM, contra o mesmo banco.
+#
+# Pré-requisitos: GraalVM JDK 21+ (native-image no PATH), curl, jq e o PostgreSQL
+# acessível pelas variáveis DB_* / spring.datasource.url.
+#   ./gradlew bootJar
+#   ./gradlew -Pnative nativeCompile
+#
+# Uso: benchmark/native-startup.sh [execuções] [requisições de aquecimento]
+set -euo pipefail
+
+RUNS="${1:-5}"
+WARMUP_REQUESTS="${2:-200}"
+PORT="${PORT:-8080}"
+OUT_DIR="${OUT_DIR:-build/benchmark/native-startup}"
+JAR="${JAR:-$(ls build/libs/security-*-SNAPSHOT.jar | grep -v plain | head -n 1)}"
+NATIVE="${NATIVE:-build/native/nativeCompile/security}"
+USERNAME="bench_$(date +%s)"
+PASSWORD="benchmark123"
+
+mkdir -p "$OUT_DIR"
+
+now_ms() {
+  date +%s%3N
+}
+
+wait_ready() {
+  until curl -sf "http://localhost:$PORT/health" > /dev/null; do
+    sleep 0.01
+  done
+}
+
+rss_kb() {
+  awk '/VmRSS/ {print $2}' /proc/"$1"/status
+}
+
+measure() {
+  local name="$1"
+  shift
+  local results="$OUT_DIR/$name.csv"
+  echo "run,startup_ms,rss_idle_kb,rss_after_load_kb" > "$results"
+
+  for run in $(seq 1 "$RUNS"); do
+    local start
+    start="$(now_ms)"
+    "$@" --server.port="$PORT" > "$OUT_DIR/$name-$run.log" 2>&1 &
+    local pid=$!
+    wait_ready
+    local startup=$(( $(now_ms) - start ))
+    local idle
+    idle="$(rss_kb "$pid")"
+
+    curl -sf -X POST "http://localhost:$PORT/auth/register" \
+      -H "Content-Type: application/json" \
+      -d "{\"username\":\"${USERNAME}_${name}_$run\",\"email\":\"${USERNAME}_${name}_$run@example.com\",\"password\":\"$PASSWORD\"}" > /dev/null
+    local token
+    token="$(curl -sf -X POST "http://localhost:$PORT/auth/login" \
+      -H "Content-Type: application/json" \
+      -d "{\"username\":\"${USERNAME}_${name}_$run\",\"password\":\"$PASSWORD\"}" | jq -r .token)"
+    for _ in $(seq 1 "$WARMUP_REQUESTS"); do
+      curl -sf -H "Authorization: Bearer $token" "http://localhost:$PORT/v1/user/me" > /dev/null
+    done
+    local loaded
+    loaded="$(rss_kb "$pid")"
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$run,$startup,$idle,$loaded" | tee -a "$results"
+  done
+}
+
+echo "== jvm ($JAR)"
+measure jvm java -jar "$JAR"
+
+echo "== native ($NATIVE)"
+measure native "$NATIVE"
+
+for name in jvm native; do
+  awk -F, -v name="$name" 'NR > 1 { s += $2; i += $3; l += $4; n++ }
+    END { printf "%-6s startup=%d ms  rss_idle=%d MB  rss_after_load=%d MB\n", name, s / n, i / n / 1024, l / n / 1024 }' \
+    "$OUT_DIR/$name.csv"
+done
+
+echo "Resultados em $OUT_DIR"
@@ -0,0 +1,163 @@
+#!/usr/bin/env bash
+# Compara o layout plano de users (V6) com o layout particionado por hash (V7)
+# em 1M, 10M e 100M usuários sintéticos: inserção linha a linha, buscas por
+# username/email, tamanho dos índices e tempo de VACUUM.
+#
+# Pré-requisitos: psql e um PostgreSQL 16 com espaço em disco suficiente
+# (100M usuários ocupam cerca de 60 GB por layout).
+#
+# Uso: benchmark/partitioned-users-scaling.sh [tamanhos...]
+#   PGHOST/PGUSER/PGDATABASE/PGPASSWORD seguem as variáveis padrão do psql.
+set -euo pipefail
+
+if (( $# )); then SIZES=("$@"); else SIZES=(1000000 10000000 100000000); fi
+PARTITIONS="${PARTITIONS:-16}"
+CHUNK="${CHUNK:-1000000}"
+SINGLE_INSERTS="${SINGLE_INSERTS:-10000}"
+OUT_DIR="${OUT_DIR:-build/benchmark/partitioned-users}"
+export PGHOST="${PGHOST:-localhost}" PGUSER="${PGUSER:-postgres}" PGDATABASE="${PGDATABASE:-postgres}"
+
+mkdir -p "$OUT_DIR"
+
+run() {
+  psql -X -q -v ON_ERROR_STOP=1 "$@"
+}
+
+create_layouts() {
+  run <<SQL
+DROP SCHEMA IF EXISTS bench_flat CASCADE;
+DROP SCHEMA IF EXISTS bench_part CASCADE;
+CREATE SCHEMA bench_flat;
+CREATE SCHEMA bench_part;
+
+CREATE TABLE bench_flat.users (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE bench_part.users (
+    id BIGSERIAL,
+    username_key VARCHAR(50) NOT NULL,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    PRIMARY KEY (username_key)
+) PARTITION BY HASH (username_key);
+
+CREATE TABLE bench_part.user_emails (
+    email_key VARCHAR(100) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    username_key VARCHAR(50) NOT NULL
+) PARTITION BY HASH (email_key);
+
+DO \$\$
+BEGIN
+    FOR i IN 0..$((PARTITIONS - 1)) LOOP
+        EXECUTE format('CREATE TABLE bench_part.users_p%s PARTITION OF bench_part.users FOR VALUES WITH (MODULUS $PARTITIONS, REMAINDER %s)', i, i);
+        EXECUTE format('CREATE TABLE bench_part.user_emails_p%s PARTITION OF bench_part.user_emails FOR VALUES WITH (MODULUS $PARTITIONS, REMAINDER %s)', i, i);
+    END LOOP;
+END \$\$;
+SQL
+}
+
+load() {
+  local size="$1" from=1 to
+  while (( from <= size )); do
+    to=$(( from + CHUNK - 1 < size ? from + CHUNK - 1 : size ))
+    run <<SQL
+INSERT INTO bench_flat.users (username, email, password, created_at, updated_at)
+SELECT 'User_' || g, 'User_' || g || '@example.com', repeat('x', 60), now(), now()
+FROM generate_series($from, $to) g;
+
+WITH inserted AS (
+    INSERT INTO bench_part.users (username_key, username, email, password, created_at, updated_at)
+    SELECT 'user_' || g, 'User_' || g, 'User_' || g || '@example.com', repeat('x', 60), now(), now()
+    FROM generate_series($from, $to) g
+    RETURNING id, username_key, email
+)
+INSERT INTO bench_part.user_emails (email_key, user_id, username_key)
+SELECT lower(email), id, username_key FROM inserted;
+SQL
+    from=$(( to + 1 ))
+  done
+  run <<SQL
+CREATE UNIQUE INDEX ON bench_flat.users (lower(username));
+CREATE UNIQUE INDEX ON bench_flat.users (lower(email));
+CREATE INDEX ON bench_part.users (id);
+VACUUM ANALYZE bench_flat.users;
+VACUUM ANALYZE bench_part.users;
+VACUUM ANALYZE bench_part.user_emails;
+SQL
+}
+
+measure() {
+  local size="$1" probe=$(( $1 / 2 ))
+  run <<SQL
+\timing on
+\echo '== Inserção linha a linha ($SINGLE_INSERTS registros) - plano'
+DO \$\$
+BEGIN
+    FOR i IN 1..$SINGLE_INSERTS LOOP
+        INSERT INTO bench_flat.users (username, email, password, created_at, updated_at)
+        VALUES ('Single_' || i, 'Single_' || i || '@example.com', repeat('x', 60), now(), now());
+    END LOOP;
+END \$\$;
+\echo '== Inserção linha a linha ($SINGLE_INSERTS registros) - particionado'
+DO \$\$
+DECLARE
+    new_id BIGINT;
+BEGIN
+    FOR i IN 1..$SINGLE_INSERTS LOOP
+        INSERT INTO bench_part.users (username_key, username, email, password, created_at, updated_at)
+        VALUES ('single_' || i, 'Single_' || i, 'Single_' || i || '@example.com', repeat('x', 60), now(), now())
+        RETURNING id INTO new_id;
+        INSERT INTO bench_part.user_emails (email_key, user_id, username_key)
+        VALUES ('single_' || i || '@example.com', new_id, 'single_' || i);
+    END LOOP;
+END \$\$;
+\timing off
+
+\echo '== Busca por username'
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) SELECT * FROM bench_flat.users WHERE lower(username) = lower('User_$probe');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) SELECT * FROM bench_part.users WHERE username_key = lower('User_$probe');
+
+\echo '== Busca por email'
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) SELECT * FROM bench_flat.users WHERE lower(email) = lower('User_$probe@example.com');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) SELECT u.* FROM bench_part.users u
+WHERE u.username_key = (SELECT e.username_key FROM bench_part.user_emails e WHERE e.email_key = lower('User_$probe@example.com'));
+
+\echo '== Tamanho (tabela + índices)'
+SELECT 'plano' AS layout, pg_size_pretty(pg_total_relation_size('bench_flat.users')) AS total
+UNION ALL
+SELECT 'particionado', pg_size_pretty(sum(pg_total_relation_size(inhrelid)))
+FROM pg_inherits WHERE inhparent IN ('bench_part.users'::regclass, 'bench_part.user_emails'::regclass);
+
+\echo '== VACUUM após atualizar 1% das linhas'
+UPDATE bench_flat.users SET updated_at = now() WHERE id % 100 = 0;
+UPDATE bench_part.users SET updated_at = now() WHERE id % 100 = 0;
+\timing on
+\echo 'plano'
+VACUUM bench_flat.users;
+\echo 'uma partição'
+VACUUM bench_part.users_p0;
+\echo 'todas as partições'
+VACUUM bench_part.users;
+\timing off
+SQL
+}
+
+for size in "${SIZES[@]}"; do
+  echo "== $size usuários"
+  create_layouts
+  load "$size"
+  measure "$size" | tee "$OUT_DIR/$size.txt"
+done
+
+run -c "DROP SCHEMA IF EXISTS bench_flat CASCADE; DROP SCHEMA IF EXISTS bench_part CASCADE;"
+echo "Resultados em $OUT_DIR"
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Compara a variante servlet (porta 8080) com a variante reativa (porta 8081)
+# mantendo muitas conexões keep-alive abertas e medindo vazão, latência, threads e RSS.
+#
+# Pré-requisitos: wrk, curl, jq e as duas aplicações rodando contra o mesmo banco:
+#   ./gradlew bootRun
+#   ./gradlew :reactive:bootRun
+#
+# Uso: benchmark/reactive-vs-servlet.sh [conexões] [duração]
+set -euo pipefail
+
+CONNECTIONS="${1:-10000}"
+DURATION="${2:-60s}"
+THREADS="${WRK_THREADS:-8}"
+OUT_DIR="${OUT_DIR:-build/benchmark/reactive-vs-servlet}"
+USERNAME="bench_$(date +%s)"
+PASSWORD="benchmark123"
+
+mkdir -p "$OUT_DIR"
+ulimit -n "$((CONNECTIONS + 1024))" || true
+
+curl -sf -X POST http://localhost:8080/auth/register \
+  -H "Content-Type: application/json" \
+  -d "{\"username\":\"$USERNAME\",\"email\":\"$USERNAME@example.com\",\"password\":\"$PASSWORD\"}" > /dev/null
+
+for target in servlet:8080 reactive:8081; do
+  name="${target%%:*}"
+  port="${target##*:}"
+  pid="$(lsof -ti tcp:"$port" -sTCP:LISTEN | head -n 1)"
+
+  token="$(curl -sf -X POST "http://localhost:$port/auth/login" \
+    -H "Content-Type: application/json" \
+    -d "{\"username\":\"$USERNAME\",\"password\":\"$PASSWORD\"}" | jq -r .token)"
+
+  echo "== $name (pid $pid): $CONNECTIONS connections for $DURATION"
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency \
+    -H "Authorization: Bearer $token" \
+    "http://localhost:$port/v1/user/test" | tee "$OUT_DIR/$name-wrk.txt"
+
+  {
+    echo "threads=$(ls /proc/"$pid"/task | wc -l)"
+    echo "rss_kb=$(awk '/VmRSS/ {print $2}' /proc/"$pid"/status)"
+  } | tee "$OUT_DIR/$name-process.txt"
+done
+
+echo "Resultados em $OUT_DIR"
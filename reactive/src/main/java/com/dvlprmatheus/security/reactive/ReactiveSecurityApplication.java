@@ -0,0 +1,19 @@
+package com.dvlprmatheus.security.reactive;
+
+import com.dvlprmatheus.security.config.jwt.JwtProperties;
+import com.dvlprmatheus.security.config.password.BreachedPasswordProperties;
+import com.dvlprmatheus.security.service.BreachedPasswordService;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+@SpringBootApplication
+@Import({JwtProperties.class, JwtUtil.class, BreachedPasswordProperties.class, BreachedPasswordService.class})
+public class ReactiveSecurityApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveSecurityApplication.class, args);
+	}
+
+}
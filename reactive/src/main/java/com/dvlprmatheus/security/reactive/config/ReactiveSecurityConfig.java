@@ -0,0 +1,52 @@
+package com.dvlprmatheus.security.reactive.config;
+
+import com.dvlprmatheus.security.reactive.filter.JwtAuthenticationWebFilter;
+import com.dvlprmatheus.security.reactive.service.R2dbcUserDetailsService;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+    
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            JwtUtil jwtUtil,
+            R2dbcUserDetailsService userDetailsService) {
+        return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .authorizeExchange(exchange -> exchange
+                .pathMatchers("/auth/**", "/health", "/public/**").permitAll()
+                .anyExchange().authenticated()
+            )
+            .addFilterAt(new JwtAuthenticationWebFilter(jwtUtil, userDetailsService), SecurityWebFiltersOrder.AUTHENTICATION)
+            .build();
+    }
+    
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+    
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(
+            @Value("${reactive.password-hashing.threads:4}") int threads,
+            @Value("${reactive.password-hashing.queue-size:1000}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "password-hashing");
+    }
+}
@@ -0,0 +1,36 @@
+package com.dvlprmatheus.security.reactive.controller;
+
+import com.dvlprmatheus.security.api.request.LoginRequest;
+import com.dvlprmatheus.security.api.request.RegisterRequest;
+import com.dvlprmatheus.security.api.response.AuthResponse;
+import com.dvlprmatheus.security.reactive.service.ReactiveAuthenticationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthenticationController {
+    
+    private final ReactiveAuthenticationService authenticationService;
+    
+    @PostMapping("/register")
+    public Mono<ResponseEntity<AuthResponse>> register(@Valid @RequestBody RegisterRequest request) {
+        log.info("Received registration request for username: {}", request.getUsername());
+        return authenticationService.register(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+    
+    @PostMapping("/login")
+    public Mono<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+        log.info("Received login request for username: {}", request.getUsername());
+        return authenticationService.login(request)
+                .map(ResponseEntity::ok);
+    }
+}
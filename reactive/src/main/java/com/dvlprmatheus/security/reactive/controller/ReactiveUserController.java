@@ -0,0 +1,31 @@
+package com.dvlprmatheus.security.reactive.controller;
+
+import com.dvlprmatheus.security.api.response.TestResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/user")
+public class ReactiveUserController {
+    
+    @GetMapping("/test")
+    public Mono<ResponseEntity<TestResponse>> test() {
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(context -> context.getAuthentication())
+                .map(authentication -> TestResponse.builder()
+                        .message("Authentication working correctly!")
+                        .username(authentication.getName())
+                        .build())
+                .defaultIfEmpty(TestResponse.builder()
+                        .message("User not authenticated")
+                        .username(null)
+                        .build())
+                .map(ResponseEntity::ok);
+    }
+}
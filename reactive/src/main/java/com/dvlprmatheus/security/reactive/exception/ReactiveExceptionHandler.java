@@ -0,0 +1,67 @@
+package com.dvlprmatheus.security.reactive.exception;
+
+import com.dvlprmatheus.security.api.exception.AuthenticationFailedException;
+import com.dvlprmatheus.security.api.exception.EmailAlreadyExistsException;
+import com.dvlprmatheus.security.api.exception.UsernameAlreadyExistsException;
+import com.dvlprmatheus.security.api.response.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+    
+    @ExceptionHandler({UsernameAlreadyExistsException.class, EmailAlreadyExistsException.class})
+    public ResponseEntity<ErrorResponse> handleConflict(RuntimeException ex, ServerWebExchange exchange) {
+        log.warn("Conflict: {}", ex.getMessage());
+        return build(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), exchange, null);
+    }
+    
+    @ExceptionHandler(AuthenticationFailedException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationFailed(AuthenticationFailedException ex, ServerWebExchange exchange) {
+        log.warn("Authentication failed: {}", ex.getMessage());
+        return build(HttpStatus.UNAUTHORIZED, "Unauthorized", ex.getMessage(), exchange, null);
+    }
+    
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(WebExchangeBindException ex, ServerWebExchange exchange) {
+        log.warn("Validation error: {}", ex.getMessage());
+        List<ErrorResponse.FieldError> fieldErrors = ex.getFieldErrors()
+                .stream()
+                .map(error -> ErrorResponse.FieldError.builder()
+                        .field(error.getField())
+                        .message(error.getDefaultMessage())
+                        .rejectedValue(error.getRejectedValue())
+                        .build())
+                .toList();
+        return build(HttpStatus.BAD_REQUEST, "Bad Request", "Validation error in provided data", exchange, fieldErrors);
+    }
+    
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerWebExchange exchange) {
+        log.error("Unexpected error: ", ex);
+        return build(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred. Please try again later.", exchange, null);
+    }
+    
+    private static ResponseEntity<ErrorResponse> build(HttpStatus status, String error, String message,
+                                                       ServerWebExchange exchange, List<ErrorResponse.FieldError> fieldErrors) {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(exchange.getRequest().getPath().value())
+                .fieldErrors(fieldErrors)
+                .build();
+        return ResponseEntity.status(status).body(body);
+    }
+}
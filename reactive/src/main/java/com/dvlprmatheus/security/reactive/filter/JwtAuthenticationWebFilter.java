@@ -0,0 +1,61 @@
+package com.dvlprmatheus.security.reactive.filter;
+
+import com.dvlprmatheus.security.utils.HmacJwtVerifier;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+    
+    private final JwtUtil jwtUtil;
+    private final ReactiveUserDetailsService userDetailsService;
+    
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+        
+        final String jwt = authHeader.substring(7);
+        final HmacJwtVerifier.VerifiedToken token;
+        final String username;
+        try {
+            token = jwtUtil.parseToken(jwt);
+            username = token.subject();
+            log.debug("Extracted username from JWT token: {}", username);
+        } catch (Exception e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return chain.filter(exchange);
+        }
+        
+        return userDetailsService.findByUsername(username)
+                .filter(userDetails -> jwtUtil.validateToken(token, userDetails))
+                .map(userDetails -> Optional.<Authentication>of(new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
+                )))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication
+                        .map(auth -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)))
+                        .orElseGet(() -> {
+                            log.warn("JWT token validation failed for user: {}", username);
+                            return chain.filter(exchange);
+                        }));
+    }
+}
@@ -0,0 +1,60 @@
+package com.dvlprmatheus.security.reactive.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class R2dbcUserDetailsService implements ReactiveUserDetailsService {
+    
+    private static final String FIND_BY_USERNAME = """
+            SELECT u.username, u.password, r.name AS role_name
+            FROM users u
+            LEFT JOIN user_roles ur ON ur.user_id = u.id
+            LEFT JOIN roles r ON r.id = ur.role_id
+            WHERE u.username_key = lower(:username)
+            """;
+    
+    private final DatabaseClient databaseClient;
+    
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        log.debug("Loading user by username: {}", username);
+        return databaseClient.sql(FIND_BY_USERNAME)
+                .bind("username", username)
+                .map((row, metadata) -> new UserRow(
+                        row.get("username", String.class),
+                        row.get("password", String.class),
+                        row.get("role_name", String.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> rows.isEmpty() ? Mono.empty() : Mono.just(toUserDetails(rows)));
+    }
+    
+    private static UserDetails toUserDetails(List<UserRow> rows) {
+        UserRow first = rows.get(0);
+        List<SimpleGrantedAuthority> authorities = rows.stream()
+                .map(UserRow::roleName)
+                .filter(Objects::nonNull)
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+        return User.withUsername(first.username())
+                .password(first.password())
+                .authorities(authorities)
+                .build();
+    }
+    
+    private record UserRow(String username, String password, String roleName) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.dvlprmatheus.security.reactive.service;
+
+import com.dvlprmatheus.security.api.exception.AuthenticationFailedException;
+import com.dvlprmatheus.security.api.exception.EmailAlreadyExistsException;
+import com.dvlprmatheus.security.api.exception.UsernameAlreadyExistsException;
+import com.dvlprmatheus.security.api.request.LoginRequest;
+import com.dvlprmatheus.security.api.request.RegisterRequest;
+import com.dvlprmatheus.security.api.response.AuthResponse;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+public class ReactiveAuthenticationService {
+    
+    private static final String EXISTS_BY_USERNAME = "SELECT EXISTS (SELECT 1 FROM users WHERE username_key = lower(:username))";
+    private static final String EXISTS_BY_EMAIL = "SELECT EXISTS (SELECT 1 FROM user_emails WHERE email_key = lower(:email))";
+    private static final String INSERT_USER = """
+            INSERT INTO users (username_key, username, email, password, created_at, updated_at)
+            VALUES (lower(:username), :username, :email, :password, :now, :now)
+            """;
+    private static final String GRANT_DEFAULT_ROLE = """
+            INSERT INTO user_roles (user_id, role_id)
+            SELECT u.id, r.id
+            FROM users u
+            JOIN roles r ON r.name = 'USER'
+            WHERE u.username_key = lower(:username)
+            ON CONFLICT DO NOTHING
+            """;
+    
+    private final DatabaseClient databaseClient;
+    private final R2dbcUserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordHashingScheduler;
+    private final JwtUtil jwtUtil;
+    private final TransactionalOperator transactionalOperator;
+    private final String dummyPasswordHash;
+    
+    public ReactiveAuthenticationService(
+            DatabaseClient databaseClient,
+            R2dbcUserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashingScheduler") Scheduler passwordHashingScheduler,
+            JwtUtil jwtUtil,
+            ReactiveTransactionManager transactionManager) {
+        this.databaseClient = databaseClient;
+        this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingScheduler = passwordHashingScheduler;
+        this.jwtUtil = jwtUtil;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.dummyPasswordHash = passwordEncoder.encode("userNotFoundPassword");
+    }
+    
+    public Mono<AuthResponse> register(RegisterRequest request) {
+        log.info("Attempting to register new user with username: {}", request.getUsername());
+        return exists(EXISTS_BY_USERNAME, "username", request.getUsername())
+                .flatMap(usernameTaken -> {
+                    if (usernameTaken) {
+                        log.warn("Registration failed: username already exists - {}", request.getUsername());
+                        return Mono.error(new UsernameAlreadyExistsException(request.getUsername()));
+                    }
+                    return exists(EXISTS_BY_EMAIL, "email", request.getEmail());
+                })
+                .flatMap(emailTaken -> {
+                    if (emailTaken) {
+                        log.warn("Registration failed: email already exists - {}", request.getEmail());
+                        return Mono.error(new EmailAlreadyExistsException(request.getEmail()));
+                    }
+                    return Mono.fromCallable(() -> passwordEncoder.encode(request.getPassword()))
+                            .subscribeOn(passwordHashingScheduler);
+                })
+                .flatMap(encodedPassword -> databaseClient.sql(INSERT_USER)
+                        .bind("username", request.getUsername())
+                        .bind("email", request.getEmail())
+                        .bind("password", encodedPassword)
+                        .bind("now", LocalDateTime.now())
+                        .fetch()
+                        .rowsUpdated()
+                        .then(databaseClient.sql(GRANT_DEFAULT_ROLE)
+                                .bind("username", request.getUsername())
+                                .fetch()
+                                .rowsUpdated())
+                        .as(transactionalOperator::transactional))
+                .map(rows -> {
+                    log.info("User registered successfully: {}", request.getUsername());
+                    UserDetails user = User.withUsername(request.getUsername())
+                            .password("")
+                            .build();
+                    return toResponse(user);
+                });
+    }
+    
+    public Mono<AuthResponse> login(LoginRequest request) {
+        log.info("Attempting to login user: {}", request.getUsername());
+        return userDetailsService.findByUsername(request.getUsername())
+                .map(user -> new Candidate(user, user.getPassword()))
+                .defaultIfEmpty(new Candidate(null, dummyPasswordHash))
+                .flatMap(candidate -> Mono.fromCallable(() -> passwordEncoder.matches(request.getPassword(), candidate.passwordHash()))
+                        .subscribeOn(passwordHashingScheduler)
+                        .flatMap(matches -> {
+                            if (!matches || candidate.user() == null) {
+                                log.warn("Login failed: invalid credentials for user: {}", request.getUsername());
+                                return Mono.error(new AuthenticationFailedException(
+                                        "Invalid credentials. Please check your username and password."));
+                            }
+                            log.info("Login successful for user: {}", request.getUsername());
+                            return Mono.just(toResponse(candidate.user()));
+                        }));
+    }
+    
+    private Mono<Boolean> exists(String sql, String parameter, String value) {
+        return databaseClient.sql(sql)
+                .bind(parameter, value)
+                .map((row, metadata) -> Boolean.TRUE.equals(row.get(0, Boolean.class)))
+                .one();
+    }
+    
+    private AuthResponse toResponse(UserDetails user) {
+        return AuthResponse.builder()
+                .token(jwtUtil.generateToken(user))
+                .type("Bearer")
+                .username(user.getUsername())
+                .build();
+    }
+    
+    private record Candidate(UserDetails user, String passwordHash) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.dvlprmatheus.security.reactive.filter;
+
+import com.dvlprmatheus.security.utils.HmacJwtVerifier;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationWebFilterTest {
+    
+    @Mock
+    private JwtUtil jwtUtil;
+    
+    @Mock
+    private ReactiveUserDetailsService userDetailsService;
+    
+    private JwtAuthenticationWebFilter filter;
+    
+    private final AtomicReference<Authentication> captured = new AtomicReference<>();
+    private final AtomicInteger invocations = new AtomicInteger();
+    
+    private final WebFilterChain chain = exchange -> {
+        invocations.incrementAndGet();
+        return ReactiveSecurityContextHolder.getContext()
+                .doOnNext(context -> captured.set(context.getAuthentication()))
+                .then();
+    };
+    
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationWebFilter(jwtUtil, userDetailsService);
+    }
+    
+    @Test
+    void filter_ShouldSetAuthentication_WhenTokenIsValid() {
+        UserDetails user = User.withUsername("testuser").password("encodedPassword").roles("USER").build();
+        HmacJwtVerifier.VerifiedToken token = verified("testuser");
+        when(jwtUtil.parseToken("valid-token")).thenReturn(token);
+        when(userDetailsService.findByUsername("testuser")).thenReturn(Mono.just(user));
+        when(jwtUtil.validateToken(token, user)).thenReturn(true);
+        
+        StepVerifier.create(filter.filter(exchangeWithToken("valid-token"), chain)).verifyComplete();
+        
+        assertEquals(1, invocations.get());
+        assertNotNull(captured.get());
+        assertEquals("testuser", captured.get().getName());
+    }
+    
+    @Test
+    void filter_ShouldContinueUnauthenticatedOnce_WhenUserIsUnknown() {
+        when(jwtUtil.parseToken("valid-token")).thenReturn(verified("ghost"));
+        when(userDetailsService.findByUsername("ghost")).thenReturn(Mono.empty());
+        
+        StepVerifier.create(filter.filter(exchangeWithToken("valid-token"), chain)).verifyComplete();
+        
+        assertEquals(1, invocations.get());
+        assertNull(captured.get());
+    }
+    
+    @Test
+    void filter_ShouldSkipLookup_WhenTokenIsInvalid() {
+        when(jwtUtil.parseToken("bad-token")).thenThrow(new IllegalArgumentException("bad token"));
+        
+        StepVerifier.create(filter.filter(exchangeWithToken("bad-token"), chain)).verifyComplete();
+        
+        assertEquals(1, invocations.get());
+        verify(userDetailsService, never()).findByUsername(any());
+    }
+    
+    private static HmacJwtVerifier.VerifiedToken verified(String subject) {
+        return new HmacJwtVerifier.VerifiedToken(subject, 0, Long.MAX_VALUE, null);
+    }
+    
+    private static MockServerWebExchange exchangeWithToken(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/v1/user/test")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+}
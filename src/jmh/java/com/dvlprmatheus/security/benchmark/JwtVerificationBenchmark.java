@@ -0,0 +1,91 @@
+package com.dvlprmatheus.security.benchmark;
+
+import com.dvlprmatheus.security.config.jwt.JwtProperties;
+import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    
+    private static final int TOKENS = 1024;
+    
+    @Param({"a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6", "a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6e7f8a9b0c1d2e3f4a5b6c7d8e9f0a1b2"})
+    private String secret;
+    
+    private JwtUtil jjwt;
+    private JwtUtil fast;
+    private String[] tokens;
+    private User[] users;
+    private int next;
+    
+    @Setup
+    public void setUp() {
+        jjwt = new JwtUtil(properties(false));
+        fast = new JwtUtil(properties(true));
+        tokens = new String[TOKENS];
+        users = new User[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            users[i] = User.builder()
+                    .username("benchmark_user_" + i)
+                    .email("benchmark_user_" + i + "@example.com")
+                    .password("encodedPassword")
+                    .build();
+            tokens[i] = jjwt.generateToken(users[i]);
+        }
+    }
+    
+    private JwtProperties properties(boolean fastVerifier) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        properties.setExpiration(TimeUnit.DAYS.toMillis(1));
+        properties.setFastVerifierEnabled(fastVerifier);
+        return properties;
+    }
+    
+    private int nextIndex() {
+        next = (next + 1) & (TOKENS - 1);
+        return next;
+    }
+    
+    @Benchmark
+    public String extractUsernameJjwt() {
+        return jjwt.extractUsername(tokens[nextIndex()]);
+    }
+    
+    @Benchmark
+    public String extractUsernameFast() {
+        return fast.extractUsername(tokens[nextIndex()]);
+    }
+    
+    @Benchmark
+    public boolean filterPathJjwt() {
+        int index = nextIndex();
+        jjwt.extractUsername(tokens[index]);
+        return jjwt.validateToken(tokens[index], users[index]);
+    }
+    
+    @Benchmark
+    public boolean filterPathFast() {
+        int index = nextIndex();
+        fast.extractUsername(tokens[index]);
+        return fast.validateToken(tokens[index], users[index]);
+    }
+}
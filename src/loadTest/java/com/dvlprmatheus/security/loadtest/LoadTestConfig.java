@@ -0,0 +1,50 @@
+package com.dvlprmatheus.security.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record LoadTestConfig(
+        String jdbcUrl,
+        String dbUser,
+        String dbPassword,
+        int seedUsers,
+        int tokenPool,
+        double ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        int loginWeight,
+        int registerWeight,
+        int readWeight,
+        int maxInFlight,
+        Path outputDir) {
+    
+    public static LoadTestConfig fromSystemProperties() {
+        String[] mix = property("loadtest.mix", "10:5:85").split(":");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("loadtest.mix must be login:register:read, e.g. 10:5:85");
+        }
+        return new LoadTestConfig(
+                System.getProperty("loadtest.jdbc-url"),
+                property("loadtest.db-user", "postgres"),
+                property("loadtest.db-password", "postgres"),
+                Integer.parseInt(property("loadtest.users", "10000")),
+                Integer.parseInt(property("loadtest.token-pool", "200")),
+                Double.parseDouble(property("loadtest.rate", "200")),
+                Duration.ofSeconds(Long.parseLong(property("loadtest.warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("loadtest.duration-seconds", "60"))),
+                Integer.parseInt(mix[0].trim()),
+                Integer.parseInt(mix[1].trim()),
+                Integer.parseInt(mix[2].trim()),
+                Integer.parseInt(property("loadtest.max-in-flight", "2000")),
+                Path.of(property("loadtest.output-dir", "build/loadtest")));
+    }
+    
+    public boolean usesEmbeddedDatabase() {
+        return jdbcUrl == null || jdbcUrl.isBlank();
+    }
+    
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
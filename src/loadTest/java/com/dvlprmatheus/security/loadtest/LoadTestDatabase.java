@@ -0,0 +1,47 @@
+package com.dvlprmatheus.security.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+
+public final class LoadTestDatabase implements AutoCloseable {
+    
+    private final EmbeddedPostgres embedded;
+    private final String jdbcUrl;
+    private final String user;
+    private final String password;
+    
+    private LoadTestDatabase(EmbeddedPostgres embedded, String jdbcUrl, String user, String password) {
+        this.embedded = embedded;
+        this.jdbcUrl = jdbcUrl;
+        this.user = user;
+        this.password = password;
+    }
+    
+    public static LoadTestDatabase start(LoadTestConfig config) throws IOException {
+        if (!config.usesEmbeddedDatabase()) {
+            return new LoadTestDatabase(null, config.jdbcUrl(), config.dbUser(), config.dbPassword());
+        }
+        EmbeddedPostgres embedded = EmbeddedPostgres.builder().start();
+        return new LoadTestDatabase(embedded, embedded.getJdbcUrl("postgres", "postgres"), "postgres", "postgres");
+    }
+    
+    public String jdbcUrl() {
+        return jdbcUrl;
+    }
+    
+    public String user() {
+        return user;
+    }
+    
+    public String password() {
+        return password;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+}
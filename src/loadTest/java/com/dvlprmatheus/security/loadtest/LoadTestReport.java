@@ -0,0 +1,84 @@
+package com.dvlprmatheus.security.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+
+public final class LoadTestReport {
+    
+    private LoadTestReport() {
+    }
+    
+    public static Path write(LoadTestConfig config, Duration measured, OpenModelWorkload workload) throws IOException {
+        Files.createDirectories(config.outputDir());
+        Histogram overall = null;
+        StringBuilder json = new StringBuilder(1024);
+        json.append("{\n");
+        json.append("  \"timestamp\": \"").append(Instant.now()).append("\",\n");
+        json.append("  \"config\": {")
+                .append("\"seedUsers\": ").append(config.seedUsers())
+                .append(", \"ratePerSecond\": ").append(config.ratePerSecond())
+                .append(", \"durationSeconds\": ").append(config.duration().toSeconds())
+                .append(", \"warmupSeconds\": ").append(config.warmup().toSeconds())
+                .append(", \"mix\": \"").append(config.loginWeight()).append(':')
+                .append(config.registerWeight()).append(':').append(config.readWeight()).append('"')
+                .append(", \"embeddedDatabase\": ").append(config.usesEmbeddedDatabase())
+                .append("},\n");
+        json.append("  \"latencyUnit\": \"microseconds\",\n");
+        json.append("  \"dropped\": ").append(workload.dropped()).append(",\n");
+        json.append("  \"operations\": {\n");
+        
+        boolean first = true;
+        for (Map.Entry<OpenModelWorkload.Operation, Histogram> entry : workload.histograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (overall == null) {
+                overall = histogram.copy();
+            } else {
+                overall.add(histogram);
+            }
+            if (!first) {
+                json.append(",\n");
+            }
+            first = false;
+            String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+            json.append("    \"").append(name).append("\": ");
+            appendStats(json, histogram, workload.errors(entry.getKey()), measured);
+            writeDistribution(config.outputDir().resolve(name + ".hgrm"), histogram);
+        }
+        json.append("\n  },\n  \"overall\": ");
+        appendStats(json, overall, 0, measured);
+        json.append("\n}\n");
+        writeDistribution(config.outputDir().resolve("overall.hgrm"), overall);
+        
+        Path result = config.outputDir().resolve("result.json");
+        Files.writeString(result, json);
+        return result;
+    }
+    
+    private static void appendStats(StringBuilder json, Histogram histogram, long errors, Duration measured) {
+        double seconds = Math.max(1e-9, measured.toNanos() / 1e9);
+        json.append("{\"count\": ").append(histogram.getTotalCount())
+                .append(", \"errors\": ").append(errors)
+                .append(", \"throughput\": ").append(String.format(Locale.ROOT, "%.2f", histogram.getTotalCount() / seconds))
+                .append(", \"mean\": ").append(String.format(Locale.ROOT, "%.1f", histogram.getMean()))
+                .append(", \"p50\": ").append(histogram.getValueAtPercentile(50))
+                .append(", \"p95\": ").append(histogram.getValueAtPercentile(95))
+                .append(", \"p99\": ").append(histogram.getValueAtPercentile(99))
+                .append(", \"p999\": ").append(histogram.getValueAtPercentile(99.9))
+                .append(", \"max\": ").append(histogram.getMaxValue())
+                .append('}');
+    }
+    
+    private static void writeDistribution(Path path, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(path), false, "UTF-8")) {
+            histogram.outputPercentileDistribution(out, 1.0);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.dvlprmatheus.security.loadtest;
+
+import com.dvlprmatheus.security.SecurityApplication;
+import com.dvlprmatheus.security.service.AvailabilityService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class LoadTestRunner {
+    
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    
+    private LoadTestRunner() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        
+        try (LoadTestDatabase database = LoadTestDatabase.start(config);
+             ConfigurableApplicationContext context = startApplication(database)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI baseUri = URI.create("http://localhost:" + port);
+            log("Application started on port %d against %s", port, database.jdbcUrl());
+            
+            long seedStart = System.nanoTime();
+            new UserSeeder(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class))
+                    .seed(runId, config.seedUsers());
+            context.getBean(AvailabilityService.class).buildFilters();
+            log("Seeded %d users in %d ms", config.seedUsers(), (System.nanoTime() - seedStart) / 1_000_000);
+            
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            List<String> tokens = fetchTokens(client, baseUri, runId, Math.min(config.tokenPool(), config.seedUsers()));
+            
+            OpenModelWorkload workload = new OpenModelWorkload(client, baseUri, config, runId, tokens);
+            Duration measured;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                log("Warming up for %ds at %.0f req/s", config.warmup().toSeconds(), config.ratePerSecond());
+                workload.run(config.warmup(), executor);
+                workload.reset();
+                
+                log("Measuring for %ds at %.0f req/s", config.duration().toSeconds(), config.ratePerSecond());
+                long start = System.nanoTime();
+                workload.run(config.duration(), executor);
+                measured = Duration.ofNanos(System.nanoTime() - start);
+            }
+            
+            Path result = LoadTestReport.write(config, measured, workload);
+            log("Report written to %s", result.toAbsolutePath());
+        }
+    }
+    
+    private static ConfigurableApplicationContext startApplication(LoadTestDatabase database) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", database.jdbcUrl());
+        properties.put("spring.datasource.username", database.user());
+        properties.put("spring.datasource.password", database.password());
+        properties.put("spring.flyway.url", database.jdbcUrl());
+        properties.put("spring.flyway.user", database.user());
+        properties.put("spring.flyway.password", database.password());
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.dvlprmatheus", "WARN");
+        return new SpringApplicationBuilder(SecurityApplication.class)
+                .properties(properties)
+                .run();
+    }
+    
+    private static List<String> fetchTokens(HttpClient client, URI baseUri, String runId, int count) throws Exception {
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String body = "{\"username\":\"" + UserSeeder.username(runId, i) + "\",\"password\":\"" + UserSeeder.PASSWORD + "\"}";
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = TOKEN.matcher(response.body());
+            if (response.statusCode() != 200 || !matcher.find()) {
+                throw new IllegalStateException("Could not obtain token for seeded user: HTTP " + response.statusCode());
+            }
+            tokens.add(matcher.group(1));
+        }
+        return tokens;
+    }
+    
+    private static void log(String format, Object... args) {
+        System.out.printf(format + "%n", args);
+    }
+}
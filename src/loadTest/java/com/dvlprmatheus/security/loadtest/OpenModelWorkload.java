@@ -0,0 +1,152 @@
+package com.dvlprmatheus.security.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public final class OpenModelWorkload {
+    
+    public enum Operation {
+        LOGIN, REGISTER, READ
+    }
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    
+    private final HttpClient client;
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final String runId;
+    private final List<String> tokens;
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong registrations = new AtomicLong();
+    
+    public OpenModelWorkload(HttpClient client, URI baseUri, LoadTestConfig config, String runId, List<String> tokens) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.config = config;
+        this.runId = runId;
+        this.tokens = tokens;
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+    
+    public void run(Duration duration, ExecutorService executor) {
+        long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / config.ratePerSecond()));
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long next = start;
+        
+        while (next < end) {
+            long now = System.nanoTime();
+            if (next > now) {
+                LockSupport.parkNanos(next - now);
+            }
+            long intendedStart = next;
+            Operation operation = pick();
+            if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                inFlight.decrementAndGet();
+                dropped.increment();
+                errors.get(operation).increment();
+            } else {
+                executor.execute(() -> execute(operation, intendedStart));
+            }
+            next += intervalNanos;
+        }
+        
+        while (inFlight.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+    
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        dropped.reset();
+    }
+    
+    public Map<Operation, Histogram> histograms() {
+        return histograms;
+    }
+    
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+    
+    public long dropped() {
+        return dropped.sum();
+    }
+    
+    private Operation pick() {
+        int total = config.loginWeight() + config.registerWeight() + config.readWeight();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        if (roll < config.loginWeight()) {
+            return Operation.LOGIN;
+        }
+        if (roll < config.loginWeight() + config.registerWeight()) {
+            return Operation.REGISTER;
+        }
+        return Operation.READ;
+    }
+    
+    private void execute(Operation operation, long intendedStart) {
+        try {
+            HttpResponse<Void> response = client.send(request(operation), HttpResponse.BodyHandlers.discarding());
+            int expected = operation == Operation.REGISTER ? 201 : 200;
+            if (response.statusCode() != expected) {
+                errors.get(operation).increment();
+            }
+        } catch (Exception e) {
+            errors.get(operation).increment();
+        } finally {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+            histograms.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LOGIN -> {
+                String username = UserSeeder.username(runId, random.nextInt(config.seedUsers()));
+                yield post("/auth/login", "{\"username\":\"" + username + "\",\"password\":\"" + UserSeeder.PASSWORD + "\"}");
+            }
+            case REGISTER -> {
+                String username = "lt_" + runId + "_new_" + registrations.incrementAndGet();
+                yield post("/auth/register", "{\"username\":\"" + username + "\",\"email\":\"" + username
+                        + "@loadtest.local\",\"password\":\"" + UserSeeder.PASSWORD + "\"}");
+            }
+            case READ -> HttpRequest.newBuilder(baseUri.resolve("/v1/user/me"))
+                    .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                    .GET()
+                    .build();
+        };
+    }
+    
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.dvlprmatheus.security.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class UserSeeder {
+    
+    public static final String PASSWORD = "loadtest-password";
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    
+    public UserSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+    
+    public static String username(String runId, int index) {
+        return "lt_" + runId + "_" + index;
+    }
+    
+    public void seed(String runId, int count) {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String username = username(runId, i);
+            batch.add(new Object[]{username, username, username + "@loadtest.local", passwordHash, now, now});
+            if (batch.size() == BATCH_SIZE) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+        jdbcTemplate.update("""
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT u.id, r.id FROM users u CROSS JOIN roles r
+                WHERE r.name = 'USER' AND starts_with(u.username_key, lower(?))
+                ON CONFLICT DO NOTHING
+                """, "lt_" + runId + "_");
+    }
+    
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (username_key, username, email, password, created_at, updated_at) VALUES (lower(?), ?, ?, ?, ?, ?)",
+                batch);
+    }
+}
@@ -1,9 +1,14 @@
 package com.dvlprmatheus.security.api.controller;
 
+import com.dvlprmatheus.security.api.request.ClientTokenRequest;
 import com.dvlprmatheus.security.api.request.LoginRequest;
 import com.dvlprmatheus.security.api.request.RegisterRequest;
 import com.dvlprmatheus.security.api.response.AuthResponse;
+import com.dvlprmatheus.security.api.response.AvailabilityResponse;
+import com.dvlprmatheus.security.api.response.ClientTokenResponse;
 import com.dvlprmatheus.security.service.AuthenticationService;
+import com.dvlprmatheus.security.service.AvailabilityService;
+import com.dvlprmatheus.security.service.ServiceClientService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
 public class AuthenticationController {
     
     private final AuthenticationService authenticationService;
+    private final AvailabilityService availabilityService;
+    private final ServiceClientService serviceClientService;
     
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
@@ -34,5 +41,22 @@ public class AuthenticationController {
         log.debug("Login request processed for username: {}", request.getUsername());
         return ResponseEntity.ok(response);
     }
+    
+    @PostMapping("/token")
+    public ResponseEntity<ClientTokenResponse> token(@Valid @RequestBody ClientTokenRequest request) {
+        log.debug("Received client credentials request for client: {}", request.getClientId());
+        return ResponseEntity.ok(serviceClientService.issueToken(request));
+    }
+    
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> availability(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        if ((username == null || username.isBlank()) && (email == null || email.isBlank())) {
+            log.debug("Availability request without username or email");
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(availabilityService.check(username, email));
+    }
 }
 
@@ -0,0 +1,31 @@
+package com.dvlprmatheus.security.api.controller;
+
+import com.dvlprmatheus.security.api.response.HealthResponse;
+import com.dvlprmatheus.security.service.overload.AdaptiveConcurrencyLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class HealthController {
+    
+    private final AdaptiveConcurrencyLimiter limiter;
+    
+    @GetMapping("/health")
+    public ResponseEntity<HealthResponse> health() {
+        boolean ready = limiter.isReady();
+        HealthResponse response = HealthResponse.builder()
+                .status(ready ? "UP" : "OUT_OF_SERVICE")
+                .concurrencyLimit(limiter.getLimit())
+                .inFlight(limiter.getInFlight())
+                .build();
+        
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .cacheControl(CacheControl.noStore())
+                .body(response);
+    }
+}
@@ -0,0 +1,127 @@
+package com.dvlprmatheus.security.api.controller;
+
+import com.dvlprmatheus.security.api.request.BulkRoleRequest;
+import com.dvlprmatheus.security.api.response.BulkRoleResponse;
+import com.dvlprmatheus.security.api.response.LoginActivityPageResponse;
+import com.dvlprmatheus.security.api.response.UserChangePageResponse;
+import com.dvlprmatheus.security.api.response.UserPageResponse;
+import com.dvlprmatheus.security.api.response.UserSearchResponse;
+import com.dvlprmatheus.security.config.admin.UserExportProperties;
+import com.dvlprmatheus.security.config.web.AsyncTimeoutConfig;
+import com.dvlprmatheus.security.service.UserAdminService;
+import com.dvlprmatheus.security.service.UserChangeFeedService;
+import com.dvlprmatheus.security.service.UserChangeStreamService;
+import com.dvlprmatheus.security.service.UserExportService;
+import com.dvlprmatheus.security.service.UserSearchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/v1/users")
+@RequiredArgsConstructor
+public class UserAdminController {
+    
+    private final UserAdminService userAdminService;
+    private final UserExportService userExportService;
+    private final UserSearchService userSearchService;
+    private final UserChangeFeedService userChangeFeedService;
+    private final UserChangeStreamService userChangeStreamService;
+    private final UserExportProperties userExportProperties;
+    
+    @GetMapping
+    public ResponseEntity<UserPageResponse> list(
+            @RequestParam(defaultValue = "0") @Min(0) Long after,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) Integer limit,
+            @RequestParam(required = false) String role) {
+        log.debug("Received user listing request after id {} with limit {}", after, limit);
+        return ResponseEntity.ok(userAdminService.listUsers(after, limit, role));
+    }
+    
+    @GetMapping("/login-activity")
+    public ResponseEntity<LoginActivityPageResponse> loginActivity(
+            @RequestParam(defaultValue = "0") @Min(0) Long after,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) Integer limit,
+            @RequestParam(required = false) @Min(0) Integer inactiveDays) {
+        log.debug("Received login activity request after id {} with limit {}", after, limit);
+        return ResponseEntity.ok(userAdminService.listLoginActivity(after, limit, inactiveDays));
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<UserSearchResponse> search(
+            @RequestParam @NotBlank @Size(max = 100) String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) Integer limit) {
+        log.debug("Received user search request with limit {}", limit);
+        return ResponseEntity.ok(userSearchService.search(q, limit));
+    }
+    
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "csv") @Pattern(regexp = "csv|ndjson", message = "Format must be csv or ndjson") String format,
+            HttpServletRequest request) {
+        log.info("Received user export request in format: {}", format);
+        request.setAttribute(AsyncTimeoutConfig.TIMEOUT_ATTRIBUTE, userExportProperties.getTimeoutMillis());
+        UserExportService.Format exportFormat = UserExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        StreamingResponseBody body = outputStream -> userExportService.export(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + exportFormat.getExtension() + "\"")
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(body);
+    }
+    
+    @GetMapping("/changes")
+    public ResponseEntity<UserChangePageResponse> changes(
+            @RequestParam(defaultValue = "0") @Min(0) Long after,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) Integer limit) {
+        log.debug("Received user change feed request after cursor {} with limit {}", after, limit);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(userChangeFeedService.listChanges(after, limit));
+    }
+    
+    @GetMapping("/changes/stream")
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(defaultValue = "0") @Min(0) Long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) @Min(0) Long lastEventId) {
+        long cursor = lastEventId != null ? lastEventId : after;
+        log.info("Received user change stream request after cursor {}", cursor);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .header("X-Accel-Buffering", "no")
+                .body(userChangeStreamService.subscribe(cursor));
+    }
+    
+    @PostMapping("/roles/{role}/grant")
+    public ResponseEntity<BulkRoleResponse> grantRole(
+            @PathVariable String role,
+            @Valid @RequestBody BulkRoleRequest request) {
+        log.info("Received bulk grant request for role: {}", role);
+        return ResponseEntity.ok(userAdminService.changeRole(role, request, true));
+    }
+    
+    @PostMapping("/roles/{role}/revoke")
+    public ResponseEntity<BulkRoleResponse> revokeRole(
+            @PathVariable String role,
+            @Valid @RequestBody BulkRoleRequest request) {
+        log.info("Received bulk revoke request for role: {}", role);
+        return ResponseEntity.ok(userAdminService.changeRole(role, request, false));
+    }
+}
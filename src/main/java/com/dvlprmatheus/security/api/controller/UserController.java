@@ -1,14 +1,21 @@
 package com.dvlprmatheus.security.api.controller;
 
 import com.dvlprmatheus.security.api.response.TestResponse;
+import com.dvlprmatheus.security.api.response.UserProfileResponse;
+import com.dvlprmatheus.security.entity.Role;
 import com.dvlprmatheus.security.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -38,5 +45,64 @@ public class UserController {
                 .build();
         return ResponseEntity.ok(response);
     }
+    
+    @GetMapping("/me")
+    public ResponseEntity<UserProfileResponse> me(WebRequest webRequest) {
+        Optional<User> currentUser = User.currentUser();
+        if (currentUser.isEmpty()) {
+            log.debug("Profile requested without an authenticated user");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        User user = currentUser.get();
+        List<String> roles = user.getRoles().stream()
+                .map(Role::getName)
+                .sorted()
+                .toList();
+        String eTag = profileETag(user, roles);
+        
+        if (webRequest.checkNotModified(eTag)) {
+            log.debug("Profile not modified for user: {}", user.getUsername());
+            return null;
+        }
+        
+        UserProfileResponse response = UserProfileResponse.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .roles(roles)
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+        
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(eTag)
+                .body(response);
+    }
+    
+    private static String profileETag(User user, List<String> roles) {
+        LocalDateTime version = user.getUpdatedAt() != null ? user.getUpdatedAt() : user.getCreatedAt();
+        long hash = 0xCBF29CE484222325L;
+        hash = mix(hash, String.valueOf(user.getId()));
+        hash = mix(hash, user.getUsername());
+        hash = mix(hash, user.getEmail());
+        hash = mix(hash, String.valueOf(version));
+        for (String role : roles) {
+            hash = mix(hash, role);
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+    
+    private static long mix(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001B3L;
+            }
+        }
+        hash ^= 0x1F;
+        hash *= 0x100000001B3L;
+        return hash;
+    }
 }
-
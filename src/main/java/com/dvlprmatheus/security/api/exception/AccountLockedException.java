@@ -0,0 +1,22 @@
+package com.dvlprmatheus.security.api.exception;
+
+import org.springframework.security.authentication.LockedException;
+
+public class AccountLockedException extends LockedException {
+    
+    private final long retryAfterSeconds;
+    
+    public AccountLockedException(long retryAfterSeconds) {
+        super("Account temporarily locked after repeated failed logins");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+    
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
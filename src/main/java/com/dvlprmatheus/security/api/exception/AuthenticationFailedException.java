@@ -2,6 +2,12 @@ package com.dvlprmatheus.security.api.exception;
 
 public class AuthenticationFailedException extends RuntimeException {
     
+    public static final AuthenticationFailedException INVALID_CREDENTIALS =
+            new AuthenticationFailedException("Invalid credentials. Please check your username and password.", false);
+    
+    public static final AuthenticationFailedException INVALID_CLIENT =
+            new AuthenticationFailedException("Invalid client credentials.", false);
+    
     public AuthenticationFailedException(String message) {
         super(message);
     }
@@ -9,5 +15,12 @@ public class AuthenticationFailedException extends RuntimeException {
     public AuthenticationFailedException(String message, Throwable cause) {
         super(message, cause);
     }
+    
+    private AuthenticationFailedException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+    
+    public static AuthenticationFailedException expected(String message) {
+        return new AuthenticationFailedException(message, false);
+    }
 }
-
@@ -0,0 +1,8 @@
+package com.dvlprmatheus.security.api.exception;
+
+public class ChangeCursorExpiredException extends RuntimeException {
+    
+    public ChangeCursorExpiredException(long cursor) {
+        super(String.format("Change cursor %d has expired or does not exist. Resynchronize and restart from after=0", cursor));
+    }
+}
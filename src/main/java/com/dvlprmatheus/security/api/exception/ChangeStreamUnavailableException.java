@@ -0,0 +1,11 @@
+package com.dvlprmatheus.security.api.exception;
+
+public class ChangeStreamUnavailableException extends RuntimeException {
+    
+    public static final ChangeStreamUnavailableException TOO_MANY_SUBSCRIBERS =
+            new ChangeStreamUnavailableException("Too many change stream subscribers. Poll /v1/users/changes instead");
+    
+    private ChangeStreamUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
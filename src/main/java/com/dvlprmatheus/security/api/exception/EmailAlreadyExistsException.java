@@ -3,7 +3,7 @@ package com.dvlprmatheus.security.api.exception;
 public class EmailAlreadyExistsException extends RuntimeException {
     
     public EmailAlreadyExistsException(String email) {
-        super("Email already in use: " + email);
+        super("Email already in use: " + email, null, false, false);
     }
 }
 
@@ -1,15 +1,21 @@
 package com.dvlprmatheus.security.api.exception;
 
 import com.dvlprmatheus.security.api.response.ErrorResponse;
+import com.dvlprmatheus.security.api.response.PreSerializedError;
+import com.dvlprmatheus.security.service.AuthenticationFailureMonitor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -20,83 +26,84 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
     
+    private static final PreSerializedError CONFLICT = PreSerializedError.of(HttpStatus.CONFLICT);
+    private static final PreSerializedError UNAUTHORIZED = PreSerializedError.of(HttpStatus.UNAUTHORIZED);
+    private static final PreSerializedError INVALID_CREDENTIALS = PreSerializedError.of(HttpStatus.UNAUTHORIZED,
+            AuthenticationFailedException.INVALID_CREDENTIALS.getMessage());
+    private static final PreSerializedError INVALID_CLIENT = PreSerializedError.of(HttpStatus.UNAUTHORIZED,
+            AuthenticationFailedException.INVALID_CLIENT.getMessage());
+    private static final PreSerializedError INVALID_SCOPE = PreSerializedError.of(HttpStatus.BAD_REQUEST,
+            InvalidScopeException.NOT_ALLOWED.getMessage());
+    private static final PreSerializedError GONE = PreSerializedError.of(HttpStatus.GONE);
+    private static final PreSerializedError STREAM_UNAVAILABLE = PreSerializedError.of(HttpStatus.SERVICE_UNAVAILABLE,
+            ChangeStreamUnavailableException.TOO_MANY_SUBSCRIBERS.getMessage());
+    
+    private final AuthenticationFailureMonitor failureMonitor;
+    
     @ExceptionHandler(UsernameAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponse> handleUsernameAlreadyExists(
+    public ResponseEntity<?> handleUsernameAlreadyExists(
             UsernameAlreadyExistsException ex, 
             HttpServletRequest request) {
-        log.warn("Username already exists: {}", ex.getMessage());
-        
-        ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.CONFLICT.value())
-                .error("Conflict")
-                .message(ex.getMessage())
-                .path(request.getRequestURI())
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        return preSerialized(CONFLICT, ex.getMessage(), request);
     }
     
     @ExceptionHandler(EmailAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponse> handleEmailAlreadyExists(
+    public ResponseEntity<?> handleEmailAlreadyExists(
             EmailAlreadyExistsException ex, 
             HttpServletRequest request) {
-        log.warn("Email already exists: {}", ex.getMessage());
-        
-        ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.CONFLICT.value())
-                .error("Conflict")
-                .message(ex.getMessage())
-                .path(request.getRequestURI())
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        return preSerialized(CONFLICT, ex.getMessage(), request);
     }
     
     @ExceptionHandler(AuthenticationFailedException.class)
-    public ResponseEntity<ErrorResponse> handleAuthenticationFailed(
+    public ResponseEntity<?> handleAuthenticationFailed(
             AuthenticationFailedException ex, 
             HttpServletRequest request) {
-        log.warn("Authentication failed: {}", ex.getMessage());
-        
-        ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .error("Unauthorized")
-                .message(ex.getMessage())
-                .path(request.getRequestURI())
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        if (ex == AuthenticationFailedException.INVALID_CREDENTIALS) {
+            return preSerialized(INVALID_CREDENTIALS, null, request);
+        }
+        if (ex == AuthenticationFailedException.INVALID_CLIENT) {
+            return preSerialized(INVALID_CLIENT, null, request);
+        }
+        return preSerialized(UNAUTHORIZED, ex.getMessage(), request);
+    }
+    
+    @ExceptionHandler(InvalidScopeException.class)
+    public ResponseEntity<?> handleInvalidScope(
+            InvalidScopeException ex, 
+            HttpServletRequest request) {
+        return preSerialized(INVALID_SCOPE, null, request);
+    }
+    
+    @ExceptionHandler(ChangeCursorExpiredException.class)
+    public ResponseEntity<?> handleChangeCursorExpired(
+            ChangeCursorExpiredException ex, 
+            HttpServletRequest request) {
+        return preSerialized(GONE, ex.getMessage(), request);
+    }
+    
+    @ExceptionHandler(ChangeStreamUnavailableException.class)
+    public ResponseEntity<?> handleChangeStreamUnavailable(
+            ChangeStreamUnavailableException ex, 
+            HttpServletRequest request) {
+        return preSerialized(STREAM_UNAVAILABLE, null, request);
     }
     
     @ExceptionHandler({BadCredentialsException.class, AuthenticationException.class})
-    public ResponseEntity<ErrorResponse> handleBadCredentials(
+    public ResponseEntity<?> handleBadCredentials(
             Exception ex, 
             HttpServletRequest request) {
-        log.warn("Invalid credentials: {}", ex.getMessage());
-        
-        String message = "Invalid credentials. Please check your username and password.";
-        
-        ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .error("Unauthorized")
-                .message(message)
-                .path(request.getRequestURI())
-                .build();
-        
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        failureMonitor.record(AuthenticationFailureMonitor.Failure.BAD_CREDENTIALS, request.getRequestURI());
+        return preSerialized(INVALID_CREDENTIALS, null, request);
     }
     
     @ExceptionHandler(DisabledException.class)
     public ResponseEntity<ErrorResponse> handleDisabled(
             DisabledException ex, 
             HttpServletRequest request) {
-        log.warn("Account disabled: {}", ex.getMessage());
+        failureMonitor.record(AuthenticationFailureMonitor.Failure.ACCOUNT_DISABLED, ex.getMessage());
         
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -113,16 +120,23 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleLocked(
             LockedException ex, 
             HttpServletRequest request) {
-        log.warn("Account locked: {}", ex.getMessage());
+        failureMonitor.record(AuthenticationFailureMonitor.Failure.ACCOUNT_LOCKED, ex.getMessage());
         
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.FORBIDDEN.value())
                 .error("Forbidden")
-                .message("Account locked. Please contact the administrator.")
+                .message(ex instanceof AccountLockedException
+                        ? "Account temporarily locked due to too many failed login attempts. Please try again later."
+                        : "Account locked. Please contact the administrator.")
                 .path(request.getRequestURI())
                 .build();
         
+        if (ex instanceof AccountLockedException locked) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(locked.getRetryAfterSeconds()))
+                    .body(error);
+        }
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
     
@@ -217,5 +231,47 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
+    
+    private ResponseEntity<?> preSerialized(PreSerializedError error, String message, HttpServletRequest request) {
+        if (acceptsCbor(request)) {
+            ErrorResponse body = ErrorResponse.builder()
+                    .timestamp(LocalDateTime.now())
+                    .status(error.getStatus().value())
+                    .error(error.getStatus().getReasonPhrase())
+                    .message(message == null ? error.getFixedMessage() : message)
+                    .path(request.getRequestURI())
+                    .build();
+            return ResponseEntity.status(error.getStatus())
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .body(body);
+        }
+        byte[] body = message == null
+                ? error.render(request.getRequestURI())
+                : error.render(message, request.getRequestURI());
+        return ResponseEntity.status(error.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
+    private boolean acceptsCbor(HttpServletRequest request) {
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
-
@@ -0,0 +1,15 @@
+package com.dvlprmatheus.security.api.exception;
+
+import org.springframework.security.authentication.BadCredentialsException;
+
+public class InvalidPasswordException extends BadCredentialsException {
+    
+    public InvalidPasswordException() {
+        super("Bad credentials");
+    }
+    
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,11 @@
+package com.dvlprmatheus.security.api.exception;
+
+public class InvalidScopeException extends RuntimeException {
+    
+    public static final InvalidScopeException NOT_ALLOWED =
+            new InvalidScopeException("Requested scope is not allowed for this client");
+    
+    private InvalidScopeException(String message) {
+        super(message, null, false, false);
+    }
+}
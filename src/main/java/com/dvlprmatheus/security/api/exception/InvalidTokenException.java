@@ -0,0 +1,10 @@
+package com.dvlprmatheus.security.api.exception;
+
+public class InvalidTokenException extends RuntimeException {
+    
+    public static final InvalidTokenException INVALID_SIGNATURE = new InvalidTokenException("JWT signature does not match");
+    
+    private InvalidTokenException(String message) {
+        super(message, null, false, false);
+    }
+}
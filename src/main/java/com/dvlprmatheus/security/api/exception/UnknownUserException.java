@@ -0,0 +1,15 @@
+package com.dvlprmatheus.security.api.exception;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+public class UnknownUserException extends UsernameNotFoundException {
+    
+    public UnknownUserException(String username) {
+        super("User not found: " + username);
+    }
+    
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
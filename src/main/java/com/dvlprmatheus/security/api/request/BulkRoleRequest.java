@@ -0,0 +1,37 @@
+package com.dvlprmatheus.security.api.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRoleRequest {
+    
+    @Size(max = 100000, message = "At most 100000 user ids per request")
+    private List<Long> userIds;
+    
+    @Min(value = 1, message = "fromId must be positive")
+    private Long fromId;
+    
+    @Min(value = 1, message = "toId must be positive")
+    private Long toId;
+    
+    @JsonIgnore
+    @AssertTrue(message = "Provide either userIds or a fromId/toId range")
+    public boolean isTargetValid() {
+        if (userIds != null && !userIds.isEmpty()) {
+            return fromId == null && toId == null;
+        }
+        return fromId != null && toId != null && fromId <= toId;
+    }
+}
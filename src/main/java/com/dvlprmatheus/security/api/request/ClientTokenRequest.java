@@ -0,0 +1,26 @@
+package com.dvlprmatheus.security.api.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientTokenRequest {
+    
+    @NotBlank(message = "Client id is required")
+    @Size(max = 100, message = "Client id must have at most 100 characters")
+    private String clientId;
+    
+    @NotBlank(message = "Client secret is required")
+    @Size(max = 256, message = "Client secret must have at most 256 characters")
+    private String clientSecret;
+    
+    @Size(max = 500, message = "Scope must have at most 500 characters")
+    private String scope;
+}
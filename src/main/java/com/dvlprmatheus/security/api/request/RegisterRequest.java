@@ -1,5 +1,6 @@
 package com.dvlprmatheus.security.api.request;
 
+import com.dvlprmatheus.security.api.validation.NotBreached;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -25,6 +26,7 @@ public class RegisterRequest {
     
     @NotBlank(message = "Password is required")
     @Size(min = 6, message = "Password must have at least 6 characters")
+    @NotBreached
     private String password;
 }
 
@@ -0,0 +1,32 @@
+package com.dvlprmatheus.security.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRoleResponse {
+    
+    private String role;
+    private String action;
+    private long totalAffected;
+    private List<ChunkResult> chunks;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkResult {
+        private int chunk;
+        private long fromId;
+        private long toId;
+        private int affected;
+        private long elapsedMillis;
+    }
+}
@@ -0,0 +1,19 @@
+package com.dvlprmatheus.security.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientTokenResponse {
+    
+    private String token;
+    private String type;
+    private String clientId;
+    private String scope;
+    private Long expiresIn;
+}
@@ -0,0 +1,17 @@
+package com.dvlprmatheus.security.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthResponse {
+    
+    private String status;
+    private Integer concurrencyLimit;
+    private Integer inFlight;
+}
@@ -0,0 +1,20 @@
+package com.dvlprmatheus.security.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginActivityResponse {
+    
+    private Long id;
+    private String username;
+    private LocalDateTime lastLoginAt;
+    private Long loginCount;
+}
@@ -0,0 +1,92 @@
+package com.dvlprmatheus.security.api.response;
+
+import com.dvlprmatheus.security.utils.JsonEscaper;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+public final class PreSerializedError {
+    
+    private static final byte[] OPEN = bytes("{\"timestamp\":\"");
+    private static final byte[] PATH = bytes("\",\"path\":\"");
+    private static final byte[] CLOSE = bytes("\"}");
+    
+    private static volatile CachedTimestamp timestamp = new CachedTimestamp(Long.MIN_VALUE, new byte[0]);
+    
+    private final HttpStatus status;
+    private final String fixedMessage;
+    private final byte[] head;
+    private final byte[] fixedMessageBytes;
+    
+    private record CachedTimestamp(long epochSecond, byte[] bytes) {
+    }
+    
+    private PreSerializedError(HttpStatus status, String fixedMessage) {
+        this.status = status;
+        this.fixedMessage = fixedMessage;
+        this.head = bytes("\",\"status\":" + status.value() + ",\"error\":\"" + status.getReasonPhrase() + "\",\"message\":\"");
+        this.fixedMessageBytes = fixedMessage == null ? null : bytes(JsonEscaper.escape(fixedMessage));
+    }
+    
+    public static PreSerializedError of(HttpStatus status) {
+        return new PreSerializedError(status, null);
+    }
+    
+    public static PreSerializedError of(HttpStatus status, String fixedMessage) {
+        return new PreSerializedError(status, fixedMessage);
+    }
+    
+    public HttpStatus getStatus() {
+        return status;
+    }
+    
+    public String getFixedMessage() {
+        return fixedMessage;
+    }
+    
+    public byte[] render(String path) {
+        return render(fixedMessageBytes, path);
+    }
+    
+    public byte[] render(String message, String path) {
+        return render(bytes(JsonEscaper.escape(message)), path);
+    }
+    
+    private byte[] render(byte[] message, String path) {
+        byte[] time = currentTimestamp();
+        byte[] pathBytes = bytes(JsonEscaper.escape(path));
+        byte[] body = new byte[OPEN.length + time.length + head.length + message.length
+                + PATH.length + pathBytes.length + CLOSE.length];
+        int offset = copy(OPEN, body, 0);
+        offset = copy(time, body, offset);
+        offset = copy(head, body, offset);
+        offset = copy(message, body, offset);
+        offset = copy(PATH, body, offset);
+        offset = copy(pathBytes, body, offset);
+        copy(CLOSE, body, offset);
+        return body;
+    }
+    
+    private static byte[] currentTimestamp() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = timestamp;
+        if (cached.epochSecond() != epochSecond) {
+            String formatted = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            cached = new CachedTimestamp(epochSecond, bytes(formatted));
+            timestamp = cached;
+        }
+        return cached.bytes();
+    }
+    
+    private static int copy(byte[] source, byte[] target, int offset) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package com.dvlprmatheus.security.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangePageResponse {
+    
+    private List<UserChangeResponse> changes;
+    private Long nextCursor;
+    private Boolean hasMore;
+}
@@ -0,0 +1,23 @@
+package com.dvlprmatheus.security.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserChangeResponse {
+    
+    private Long seq;
+    private Long userId;
+    private String type;
+    private String role;
+    private LocalDateTime changedAt;
+}
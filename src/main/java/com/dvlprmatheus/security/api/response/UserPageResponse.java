@@ -0,0 +1,20 @@
+package com.dvlprmatheus.security.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserPageResponse {
+    
+    private List<UserSummaryResponse> users;
+    private Long nextCursor;
+}
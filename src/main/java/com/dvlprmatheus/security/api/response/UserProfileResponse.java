@@ -0,0 +1,23 @@
+package com.dvlprmatheus.security.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileResponse {
+    
+    private Long id;
+    private String username;
+    private String email;
+    private List<String> roles;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
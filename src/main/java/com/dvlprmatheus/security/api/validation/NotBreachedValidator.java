@@ -0,0 +1,20 @@
+package com.dvlprmatheus.security.api.validation;
+
+import com.dvlprmatheus.security.service.BreachedPasswordService;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class NotBreachedValidator implements ConstraintValidator<NotBreached, String> {
+    
+    private final BreachedPasswordService breachedPasswordService;
+    
+    public NotBreachedValidator(ObjectProvider<BreachedPasswordService> breachedPasswordService) {
+        this.breachedPasswordService = breachedPasswordService.getIfAvailable();
+    }
+    
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || breachedPasswordService == null || !breachedPasswordService.isBreached(value);
+    }
+}
@@ -0,0 +1,15 @@
+package com.dvlprmatheus.security.config.activity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class LoginActivityProperties {
+    
+    @Value("${login-activity.flush-batch-size:1000}")
+    private Integer flushBatchSize;
+}
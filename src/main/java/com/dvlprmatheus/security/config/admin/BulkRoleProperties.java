@@ -0,0 +1,15 @@
+package com.dvlprmatheus.security.config.admin;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class BulkRoleProperties {
+    
+    @Value("${bulk-roles.chunk-size:1000}")
+    private Integer chunkSize;
+}
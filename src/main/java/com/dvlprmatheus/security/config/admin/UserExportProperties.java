@@ -0,0 +1,18 @@
+package com.dvlprmatheus.security.config.admin;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class UserExportProperties {
+    
+    @Value("${user-export.fetch-size:1000}")
+    private Integer fetchSize;
+    
+    @Value("${user-export.timeout-millis:3600000}")
+    private Long timeoutMillis;
+}
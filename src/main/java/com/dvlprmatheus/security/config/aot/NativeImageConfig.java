@@ -0,0 +1,63 @@
+package com.dvlprmatheus.security.config.aot;
+
+import com.dvlprmatheus.security.api.response.ErrorResponse;
+import com.dvlprmatheus.security.api.response.UserChangeResponse;
+import com.dvlprmatheus.security.entity.AbstractEntity;
+import com.dvlprmatheus.security.entity.Role;
+import com.dvlprmatheus.security.entity.User;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.SecurityRuntimeHints.class)
+@RegisterReflectionForBinding({ErrorResponse.class, ErrorResponse.FieldError.class, UserChangeResponse.class})
+public class NativeImageConfig {
+    
+    static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+    
+    static final List<String> JJWT_SERVICES = List.of(
+            "META-INF/services/io.jsonwebtoken.io.Serializer",
+            "META-INF/services/io.jsonwebtoken.io.Deserializer");
+    
+    static class SecurityRuntimeHints implements RuntimeHintsRegistrar {
+        
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            JJWT_SERVICES.forEach(hints.resources()::registerPattern);
+            
+            for (Class<?> entity : List.of(AbstractEntity.class, User.class, Role.class)) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dvlprmatheus.security.config.authorization;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class PermissionProperties {
+    
+    @Value("${permissions.refresh-interval-millis:60000}")
+    private Long refreshIntervalMillis;
+}
@@ -0,0 +1,18 @@
+package com.dvlprmatheus.security.config.availability;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class AvailabilityProperties {
+    
+    @Value("${availability.expected-insertions:1000000}")
+    private Long expectedInsertions;
+    
+    @Value("${availability.false-positive-rate:0.01}")
+    private Double falsePositiveRate;
+}
@@ -0,0 +1,30 @@
+package com.dvlprmatheus.security.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class CacheSnapshotProperties {
+    
+    @Value("${cache-snapshot.enabled:false}")
+    private Boolean enabled;
+    
+    @Value("${cache-snapshot.path:${java.io.tmpdir}/user-cache.snapshot}")
+    private String path;
+    
+    @Value("${cache-snapshot.max-entries:10000}")
+    private Integer maxEntries;
+    
+    @Value("${cache-snapshot.max-age-seconds:86400}")
+    private Long maxAgeSeconds;
+    
+    @Value("${cache-snapshot.load-chunk-size:1000}")
+    private Integer loadChunkSize;
+    
+    @Value("${cache-snapshot.warm-up-timeout-millis:10000}")
+    private Long warmUpTimeoutMillis;
+}
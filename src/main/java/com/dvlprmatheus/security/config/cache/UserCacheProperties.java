@@ -0,0 +1,27 @@
+package com.dvlprmatheus.security.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class UserCacheProperties {
+    
+    @Value("${user-cache.enabled:true}")
+    private Boolean enabled;
+    
+    @Value("${user-cache.ttl-seconds:300}")
+    private Long ttlSeconds;
+    
+    @Value("${user-cache.max-size:100000}")
+    private Integer maxSize;
+    
+    @Value("${user-cache.channel:user_cache}")
+    private String channel;
+    
+    @Value("${user-cache.reconnect-delay-millis:5000}")
+    private Long reconnectDelayMillis;
+}
@@ -0,0 +1,36 @@
+package com.dvlprmatheus.security.config.changes;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class UserChangeFeedProperties {
+    
+    @Value("${user-changes.retention-hours:168}")
+    private Integer retentionHours;
+    
+    @Value("${user-changes.prune-interval-millis:3600000}")
+    private Long pruneIntervalMillis;
+    
+    @Value("${user-changes.prune-batch-size:10000}")
+    private Integer pruneBatchSize;
+    
+    @Value("${user-changes.stream.poll-interval-millis:1000}")
+    private Long streamPollIntervalMillis;
+    
+    @Value("${user-changes.stream.heartbeat-millis:15000}")
+    private Long streamHeartbeatMillis;
+    
+    @Value("${user-changes.stream.timeout-millis:1800000}")
+    private Long streamTimeoutMillis;
+    
+    @Value("${user-changes.stream.batch-size:500}")
+    private Integer streamBatchSize;
+    
+    @Value("${user-changes.stream.max-subscribers:100}")
+    private Integer streamMaxSubscribers;
+}
@@ -0,0 +1,18 @@
+package com.dvlprmatheus.security.config.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class ServiceClientProperties {
+    
+    @Value("${service-clients.token-ttl-seconds:3600}")
+    private Long tokenTtlSeconds;
+    
+    @Value("${service-clients.refresh-interval-millis:60000}")
+    private Long refreshIntervalMillis;
+}
@@ -15,5 +15,8 @@ public class JwtProperties {
     
     @Value("${jwt.expiration:86400000}")
     private Long expiration;
+    
+    @Value("${jwt.fast-verifier.enabled:true}")
+    private Boolean fastVerifierEnabled;
 }
 
@@ -0,0 +1,27 @@
+package com.dvlprmatheus.security.config.lockout;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class LoginLockoutProperties {
+    
+    @Value("${login-lockout.max-failures:5}")
+    private Integer maxFailures;
+    
+    @Value("${login-lockout.base-lock-seconds:30}")
+    private Long baseLockSeconds;
+    
+    @Value("${login-lockout.max-lock-seconds:3600}")
+    private Long maxLockSeconds;
+    
+    @Value("${login-lockout.reset-after-seconds:900}")
+    private Long resetAfterSeconds;
+    
+    @Value("${login-lockout.flush-batch-size:500}")
+    private Integer flushBatchSize;
+}
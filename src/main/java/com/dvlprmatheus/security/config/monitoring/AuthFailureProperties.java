@@ -0,0 +1,15 @@
+package com.dvlprmatheus.security.config.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class AuthFailureProperties {
+    
+    @Value("${auth-failures.summary-interval-seconds:10}")
+    private Long summaryIntervalSeconds;
+}
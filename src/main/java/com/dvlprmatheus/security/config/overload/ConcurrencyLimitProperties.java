@@ -0,0 +1,54 @@
+package com.dvlprmatheus.security.config.overload;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class ConcurrencyLimitProperties {
+    
+    @Value("${concurrency-limit.enabled:true}")
+    private Boolean enabled;
+    
+    @Value("${concurrency-limit.initial-limit:50}")
+    private Integer initialLimit;
+    
+    @Value("${concurrency-limit.min-limit:8}")
+    private Integer minLimit;
+    
+    @Value("${concurrency-limit.max-limit:500}")
+    private Integer maxLimit;
+    
+    @Value("${concurrency-limit.tolerance:1.5}")
+    private Double tolerance;
+    
+    @Value("${concurrency-limit.smoothing:0.2}")
+    private Double smoothing;
+    
+    @Value("${concurrency-limit.backoff-ratio:0.9}")
+    private Double backoffRatio;
+    
+    @Value("${concurrency-limit.min-samples:10}")
+    private Integer minSamples;
+    
+    @Value("${concurrency-limit.default-share:0.8}")
+    private Double defaultShare;
+    
+    @Value("${concurrency-limit.login-share:0.5}")
+    private Double loginShare;
+    
+    @Value("${concurrency-limit.retry-after-seconds:1}")
+    private Long retryAfterSeconds;
+    
+    @Value("${concurrency-limit.shed-ratio:0.05}")
+    private Double shedRatio;
+    
+    @Value("${concurrency-limit.not-ready-after-millis:5000}")
+    private Long notReadyAfterMillis;
+    
+    @Value("${concurrency-limit.ready-after-millis:2000}")
+    private Long readyAfterMillis;
+}
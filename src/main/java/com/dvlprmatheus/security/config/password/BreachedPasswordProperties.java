@@ -0,0 +1,18 @@
+package com.dvlprmatheus.security.config.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class BreachedPasswordProperties {
+    
+    @Value("${breached-passwords.enabled:false}")
+    private Boolean enabled;
+    
+    @Value("${breached-passwords.path:}")
+    private String path;
+}
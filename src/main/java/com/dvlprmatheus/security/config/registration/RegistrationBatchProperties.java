@@ -0,0 +1,24 @@
+package com.dvlprmatheus.security.config.registration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class RegistrationBatchProperties {
+    
+    @Value("${registration-batch.enabled:false}")
+    private Boolean enabled;
+    
+    @Value("${registration-batch.max-batch-size:100}")
+    private Integer maxBatchSize;
+    
+    @Value("${registration-batch.max-wait-millis:2}")
+    private Long maxWaitMillis;
+    
+    @Value("${registration-batch.queue-capacity:10000}")
+    private Integer queueCapacity;
+}
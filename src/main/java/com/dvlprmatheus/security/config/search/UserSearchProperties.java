@@ -0,0 +1,21 @@
+package com.dvlprmatheus.security.config.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+public class UserSearchProperties {
+    
+    @Value("${user-search.fuzzy-min-length:3}")
+    private Integer fuzzyMinLength;
+    
+    @Value("${user-search.cache-max-entries:1024}")
+    private Integer cacheMaxEntries;
+    
+    @Value("${user-search.cache-ttl-seconds:30}")
+    private Long cacheTtlSeconds;
+}
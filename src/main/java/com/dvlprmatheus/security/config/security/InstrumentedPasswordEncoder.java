@@ -0,0 +1,43 @@
+package com.dvlprmatheus.security.config.security;
+
+import com.dvlprmatheus.security.service.jfr.PasswordHashEvent;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class InstrumentedPasswordEncoder implements PasswordEncoder {
+    
+    private final PasswordEncoder delegate;
+    
+    public InstrumentedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        String encoded = delegate.encode(rawPassword);
+        if (event.shouldCommit()) {
+            event.setOperation("encode");
+            event.commit();
+        }
+        return encoded;
+    }
+    
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        if (event.shouldCommit()) {
+            event.setOperation("matches");
+            event.setMatched(matched);
+            event.commit();
+        }
+        return matched;
+    }
+    
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,18 @@
+package com.dvlprmatheus.security.config.security;
+
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+@Getter
+public class PermissionAuthenticationToken extends UsernamePasswordAuthenticationToken {
+    
+    private final long permissions;
+    
+    public PermissionAuthenticationToken(Object principal, Collection<? extends GrantedAuthority> authorities, long permissions) {
+        super(principal, null, authorities);
+        this.permissions = permissions;
+    }
+}
@@ -0,0 +1,60 @@
+package com.dvlprmatheus.security.config.security;
+
+import com.dvlprmatheus.security.service.PermissionRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public class PermissionAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+    
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    
+    private final PermissionRegistry permissionRegistry;
+    private final List<RoutePermissionRules.Route> routes;
+    
+    private volatile CompiledRules compiled;
+    
+    private record CompiledRules(PermissionRegistry.Snapshot snapshot, RoutePermissionRules rules) {
+    }
+    
+    public PermissionAuthorizationManager(PermissionRegistry permissionRegistry, List<RoutePermissionRules.Route> routes) {
+        this.permissionRegistry = permissionRegistry;
+        this.routes = List.copyOf(routes);
+    }
+    
+    @Override
+    public AuthorizationResult authorize(Supplier<? extends Authentication> authentication, RequestAuthorizationContext context) {
+        Authentication current = authentication.get();
+        if (current == null || current instanceof AnonymousAuthenticationToken || !current.isAuthenticated()) {
+            return DENIED;
+        }
+        HttpServletRequest request = context.getRequest();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        long required = rules().requiredMask(request.getMethod(), path);
+        if (required == 0) {
+            return GRANTED;
+        }
+        long granted = current instanceof PermissionAuthenticationToken token
+                ? token.getPermissions()
+                : permissionRegistry.maskForAuthorities(current.getAuthorities());
+        return (granted & required) == required ? GRANTED : DENIED;
+    }
+    
+    private RoutePermissionRules rules() {
+        PermissionRegistry.Snapshot snapshot = permissionRegistry.snapshot();
+        CompiledRules current = compiled;
+        if (current == null || current.snapshot() != snapshot) {
+            current = new CompiledRules(snapshot, RoutePermissionRules.compile(routes, snapshot::requiredMask));
+            compiled = current;
+        }
+        return current.rules();
+    }
+}
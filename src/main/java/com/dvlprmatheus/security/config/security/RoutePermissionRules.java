@@ -0,0 +1,139 @@
+package com.dvlprmatheus.security.config.security;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+public final class RoutePermissionRules {
+    
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"};
+    private static final int OTHER_METHOD = METHODS.length;
+    private static final int NO_MATCH = -1;
+    
+    private final Node root = new Node();
+    private final long[] masks;
+    
+    public record Route(String method, String pattern, List<String> permissions) {
+    }
+    
+    public static Route route(String method, String pattern, String... permissions) {
+        return new Route(method, pattern, List.of(permissions));
+    }
+    
+    private RoutePermissionRules(List<Route> routes, ToLongFunction<List<String>> resolver) {
+        masks = new long[routes.size()];
+        for (int i = 0; i < routes.size(); i++) {
+            Route route = routes.get(i);
+            masks[i] = resolver.applyAsLong(route.permissions());
+            add(route, i);
+        }
+    }
+    
+    public static RoutePermissionRules compile(List<Route> routes, ToLongFunction<List<String>> resolver) {
+        return new RoutePermissionRules(routes, resolver);
+    }
+    
+    public long requiredMask(String method, String path) {
+        int rule = match(root, path, 0, slot(method));
+        return rule == NO_MATCH ? 0 : masks[rule];
+    }
+    
+    private void add(Route route, int rule) {
+        Node node = root;
+        String[] segments = route.pattern().split("/");
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if ("**".equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment of " + route.pattern());
+                }
+                register(node.remainder, route.method(), rule);
+                return;
+            }
+            if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        register(node.exact, route.method(), rule);
+    }
+    
+    private static void register(int[] rules, String method, int rule) {
+        if (method == null) {
+            for (int slot = 0; slot < rules.length; slot++) {
+                if (rules[slot] == NO_MATCH) {
+                    rules[slot] = rule;
+                }
+            }
+            return;
+        }
+        int slot = slot(method);
+        if (slot == OTHER_METHOD) {
+            throw new IllegalArgumentException("Unsupported HTTP method " + method);
+        }
+        if (rules[slot] == NO_MATCH) {
+            rules[slot] = rule;
+        }
+    }
+    
+    private static int match(Node node, String path, int position, int slot) {
+        int start = position;
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start >= path.length()) {
+            return node.exact[slot] != NO_MATCH ? node.exact[slot] : node.remainder[slot];
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        if (!node.literals.isEmpty()) {
+            Node literal = node.literals.get(path.substring(start, end));
+            if (literal != null) {
+                int rule = match(literal, path, end, slot);
+                if (rule != NO_MATCH) {
+                    return rule;
+                }
+            }
+        }
+        if (node.wildcard != null) {
+            int rule = match(node.wildcard, path, end, slot);
+            if (rule != NO_MATCH) {
+                return rule;
+            }
+        }
+        return node.remainder[slot];
+    }
+    
+    private static int slot(String method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return i;
+            }
+        }
+        return OTHER_METHOD;
+    }
+    
+    private static final class Node {
+        final Map<String, Node> literals = new HashMap<>();
+        final int[] exact = newSlots();
+        final int[] remainder = newSlots();
+        Node wildcard;
+        
+        private static int[] newSlots() {
+            int[] slots = new int[METHODS.length + 1];
+            Arrays.fill(slots, NO_MATCH);
+            return slots;
+        }
+    }
+}
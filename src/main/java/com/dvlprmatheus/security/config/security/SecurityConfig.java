@@ -1,13 +1,15 @@
 package com.dvlprmatheus.security.config.security;
 
 import com.dvlprmatheus.security.config.security.filter.JwtAuthenticationFilter;
+import com.dvlprmatheus.security.service.PermissionRegistry;
 import com.dvlprmatheus.security.service.UserService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -21,14 +23,34 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static com.dvlprmatheus.security.config.security.RoutePermissionRules.route;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
     
+    static final List<RoutePermissionRules.Route> ROUTES = List.of(
+            route(null, "/v1/user/me", "profile:read"),
+            route("GET", "/v1/users", "users:read"),
+            route("GET", "/v1/users/login-activity", "users:read"),
+            route("GET", "/v1/users/search", "users:read"),
+            route("GET", "/v1/users/export", "users:export"),
+            route("GET", "/v1/users/changes", "users:read"),
+            route("GET", "/v1/users/changes/stream", "users:read"),
+            route("POST", "/v1/users/roles/{role}/grant", "users:roles"),
+            route("POST", "/v1/users/roles/{role}/revoke", "users:roles"),
+            route(null, "/v1/users/**", "users:read", "users:export", "users:roles")
+    );
+    
+    private static final Set<String> STREAMING_PATHS = Set.of("/v1/users/export", "/v1/users/changes/stream");
+    
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserService userDetailsService;
+    private final PermissionRegistry permissionRegistry;
     
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -37,8 +59,9 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers(SecurityConfig::isStreamingDispatch).permitAll()
                 .requestMatchers("/auth/**", "/health", "/public/**").permitAll()
-                .anyRequest().authenticated()
+                .anyRequest().access(new PermissionAuthorizationManager(permissionRegistry, ROUTES))
             )
             .authenticationProvider(authenticationProvider())
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -46,16 +69,18 @@ public class SecurityConfig {
         return http.build();
     }
     
+    static boolean isStreamingDispatch(HttpServletRequest request) {
+        return request.getDispatcherType() == DispatcherType.ASYNC && STREAMING_PATHS.contains(request.getServletPath());
+    }
+    
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new InstrumentedPasswordEncoder(new BCryptPasswordEncoder());
     }
     
     @Bean
     public AuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
-        return authProvider;
+        return new StacklessDaoAuthenticationProvider(userDetailsService, passwordEncoder());
     }
     
     @Bean
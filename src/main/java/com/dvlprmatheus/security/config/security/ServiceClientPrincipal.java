@@ -0,0 +1,12 @@
+package com.dvlprmatheus.security.config.security;
+
+import java.security.Principal;
+import java.util.Set;
+
+public record ServiceClientPrincipal(String clientId, Set<String> scopes) implements Principal {
+    
+    @Override
+    public String getName() {
+        return clientId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.dvlprmatheus.security.config.security;
+
+import com.dvlprmatheus.security.api.exception.InvalidPasswordException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class StacklessDaoAuthenticationProvider extends DaoAuthenticationProvider {
+    
+    private final PasswordEncoder passwordEncoder;
+    
+    public StacklessDaoAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        super(userDetailsService);
+        this.passwordEncoder = passwordEncoder;
+        setPasswordEncoder(passwordEncoder);
+        setHideUserNotFoundExceptions(false);
+    }
+    
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication) {
+        Object credentials = authentication.getCredentials();
+        if (credentials == null || !passwordEncoder.matches(credentials.toString(), userDetails.getPassword())) {
+            throw new InvalidPasswordException();
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package com.dvlprmatheus.security.config.security.filter;
 
+import com.dvlprmatheus.security.config.security.PermissionAuthenticationToken;
+import com.dvlprmatheus.security.config.security.ServiceClientPrincipal;
+import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.service.AuthenticationFailureMonitor;
+import com.dvlprmatheus.security.service.PermissionRegistry;
+import com.dvlprmatheus.security.service.ServiceClientService;
 import com.dvlprmatheus.security.service.UserService;
+import com.dvlprmatheus.security.service.jfr.JwtAuthenticationEvent;
+import com.dvlprmatheus.security.utils.HmacJwtVerifier;
 import com.dvlprmatheus.security.utils.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,7 +16,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,6 +25,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -24,46 +37,109 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
     private final UserService userDetailsService;
+    private final AuthenticationFailureMonitor failureMonitor;
+    private final ServiceClientService serviceClientService;
+    private final PermissionRegistry permissionRegistry;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
         final String authHeader = request.getHeader("Authorization");
-        String username = null;
-        String jwt = null;
-        
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+            event.begin();
             try {
-                username = jwtUtil.extractUsername(jwt);
-                log.debug("Extracted username from JWT token: {}", username);
-            } catch (Exception e) {
-                log.warn("Invalid JWT token: {}", e.getMessage());
+                authenticate(authHeader.substring(7), request, event);
+            } finally {
+                event.commit();
             }
         }
         
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            log.debug("Loading user details for authentication: {}", username);
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                log.debug("JWT token validated successfully for user: {}", username);
-                UsernamePasswordAuthenticationToken authenticationToken = 
-                    new UsernamePasswordAuthenticationToken(
-                        userDetails, 
-                        null, 
-                        userDetails.getAuthorities()
-                    );
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                log.debug("Authentication set in security context for user: {}", username);
-            } else {
-                log.warn("JWT token validation failed for user: {}", username);
+        filterChain.doFilter(request, response);
+    }
+    
+    private void authenticate(String jwt, HttpServletRequest request, JwtAuthenticationEvent event) {
+        boolean timed = event.isEnabled();
+        long mark = timed ? System.nanoTime() : 0;
+        HmacJwtVerifier.VerifiedToken token;
+        try {
+            token = jwtUtil.parseToken(jwt);
+            log.debug("Extracted username from JWT token: {}", token.subject());
+        } catch (Exception e) {
+            failureMonitor.record(AuthenticationFailureMonitor.Failure.INVALID_TOKEN, e.getClass().getSimpleName());
+            event.setOutcome("invalid_token");
+            return;
+        }
+        if (timed) {
+            long now = System.nanoTime();
+            event.setVerifyDuration(now - mark);
+            mark = now;
+        }
+        String username = token.subject();
+        String scope = token.scope();
+        if (username == null) {
+            event.setOutcome("invalid_token");
+            return;
+        }
+        
+        if (scope != null) {
+            event.setPrincipalType("client");
+            boolean authenticated = authenticateClient(username, scope, request);
+            event.setOutcome(authenticated ? "authenticated" : "unknown_client");
+            if (timed) {
+                event.setContextDuration(System.nanoTime() - mark);
             }
+            return;
         }
         
-        filterChain.doFilter(request, response);
+        event.setPrincipalType("user");
+        log.debug("Loading user details for authentication: {}", username);
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (timed) {
+            long now = System.nanoTime();
+            event.setUserLoadDuration(now - mark);
+            mark = now;
+        }
+        
+        if (jwtUtil.validateToken(token, userDetails)) {
+            log.debug("JWT token validated successfully for user: {}", username);
+            Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
+            long permissions = userDetails instanceof User user
+                    ? permissionRegistry.maskForRoles(user.getRoles())
+                    : permissionRegistry.maskForAuthorities(authorities);
+            PermissionAuthenticationToken authenticationToken = 
+                new PermissionAuthenticationToken(userDetails, authorities, permissions);
+            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            log.debug("Authentication set in security context for user: {}", username);
+            event.setOutcome("authenticated");
+        } else {
+            failureMonitor.record(AuthenticationFailureMonitor.Failure.INVALID_TOKEN, username);
+            event.setOutcome("invalid_token");
+        }
+        if (timed) {
+            event.setContextDuration(System.nanoTime() - mark);
+        }
+    }
+    
+    private boolean authenticateClient(String clientId, String scope, HttpServletRequest request) {
+        if (!serviceClientService.isActive(clientId)) {
+            failureMonitor.record(AuthenticationFailureMonitor.Failure.INVALID_CLIENT, clientId);
+            return false;
+        }
+        Set<String> scopes = ServiceClientService.parseScopes(scope);
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>(scopes.size());
+        for (String granted : scopes) {
+            authorities.add(new SimpleGrantedAuthority("SCOPE_" + granted));
+        }
+        PermissionAuthenticationToken authenticationToken = new PermissionAuthenticationToken(
+                new ServiceClientPrincipal(clientId, scopes), authorities, permissionRegistry.maskForScopes(scopes));
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        log.debug("Authentication set in security context for service client: {}", clientId);
+        return true;
     }
 }
 
@@ -0,0 +1,33 @@
+package com.dvlprmatheus.security.config.web;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+@Configuration
+public class AsyncTimeoutConfig implements WebMvcConfigurer {
+    
+    public static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutConfig.class.getName() + ".timeoutMillis";
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new RequestTimeoutInterceptor());
+    }
+    
+    static class RequestTimeoutInterceptor implements CallableProcessingInterceptor {
+        
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (timeout instanceof Long millis && request instanceof AsyncWebRequest asyncWebRequest) {
+                asyncWebRequest.setTimeout(millis);
+            }
+        }
+    }
+}
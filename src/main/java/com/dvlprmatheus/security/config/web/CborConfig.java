@@ -0,0 +1,20 @@
+package com.dvlprmatheus.security.config.web;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+@Configuration
+public class CborConfig {
+    
+    @Bean
+    public CBORMapper cborMapper(CBORMapper.Builder cborMapperBuilder) {
+        return cborMapperBuilder.build();
+    }
+    
+    @Bean
+    public JacksonCborHttpMessageConverter cborHttpMessageConverter(CBORMapper cborMapper) {
+        return new JacksonCborHttpMessageConverter(cborMapper);
+    }
+}
@@ -0,0 +1,111 @@
+package com.dvlprmatheus.security.config.web;
+
+import com.dvlprmatheus.security.api.response.PreSerializedError;
+import com.dvlprmatheus.security.config.overload.ConcurrencyLimitProperties;
+import com.dvlprmatheus.security.service.overload.AdaptiveConcurrencyLimiter;
+import com.dvlprmatheus.security.service.overload.AdaptiveConcurrencyLimiter.Priority;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String CHANGE_STREAM_PATH = "/v1/users/changes/stream";
+
+    private static final PreSerializedError OVERLOADED = PreSerializedError.of(HttpStatus.SERVICE_UNAVAILABLE,
+            "Server is overloaded. Please retry shortly.");
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ConcurrencyLimitProperties properties;
+    private final JwtUtil jwtUtil;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.getEnabled()
+                || "/health".equals(request.getServletPath())
+                || CHANGE_STREAM_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!limiter.tryAcquire(classify(request))) {
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(limiter));
+            } else {
+                limiter.release(System.nanoTime() - start,
+                        failed || response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
+    Priority classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("POST".equals(method) && request.getServletPath().startsWith("/auth/")) {
+            return Priority.LOGIN;
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (("GET".equals(method) || "HEAD".equals(method)) && authorization != null && authorization.startsWith("Bearer ")) {
+            return jwtUtil.isAuthentic(authorization.substring(7)) ? Priority.READ : Priority.LOGIN;
+        }
+        return Priority.DEFAULT;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] body = OVERLOADED.render(request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private record PermitReleasingListener(AdaptiveConcurrencyLimiter limiter) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
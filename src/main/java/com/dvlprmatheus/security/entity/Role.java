@@ -17,6 +17,8 @@ import java.util.Set;
 @NoArgsConstructor
 public class Role extends AbstractEntity {
     
+    public static final String DEFAULT_NAME = "USER";
+    
     @Column(nullable = false, unique = true, length = 50)
     private String name;
     
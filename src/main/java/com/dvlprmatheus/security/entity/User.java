@@ -6,14 +6,18 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.PartitionKey;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -30,6 +34,11 @@ public class User extends AbstractEntity implements UserDetails {
     @Column(nullable = false, unique = true, length = 50)
     private String username;
     
+    @PartitionKey
+    @ColumnTransformer(write = "lower(?)")
+    @Column(name = "username_key", nullable = false, updatable = false, length = 50)
+    private String usernameKey;
+    
     @Column(nullable = false, unique = true, length = 100)
     private String email;
     
@@ -45,6 +54,28 @@ public class User extends AbstractEntity implements UserDetails {
     @Builder.Default
     private Set<Role> roles = new HashSet<>();
     
+    @Column(name = "failed_login_attempts", insertable = false, updatable = false)
+    private Integer failedLoginAttempts;
+    
+    @Column(name = "last_failed_login_at", insertable = false, updatable = false)
+    private LocalDateTime lastFailedLoginAt;
+    
+    @Column(name = "locked_until", insertable = false, updatable = false)
+    private LocalDateTime lockedUntil;
+    
+    @Column(name = "last_login_at", insertable = false, updatable = false)
+    private LocalDateTime lastLoginAt;
+    
+    @Column(name = "login_count", insertable = false, updatable = false)
+    private Long loginCount;
+    
+    @Override
+    @PrePersist
+    protected void onCreate() {
+        super.onCreate();
+        this.usernameKey = this.username.toLowerCase(Locale.ROOT);
+    }
+    
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return roles.stream()
@@ -69,7 +100,7 @@ public class User extends AbstractEntity implements UserDetails {
     
     @Override
     public boolean isAccountNonLocked() {
-        return true;
+        return lockedUntil == null || !lockedUntil.isAfter(LocalDateTime.now());
     }
     
     @Override
@@ -0,0 +1,84 @@
+package com.dvlprmatheus.security.repository;
+
+import com.dvlprmatheus.security.entity.Role;
+import com.dvlprmatheus.security.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserBatchInsertRepository {
+    
+    private static final String INSERT_USERS = """
+            WITH input AS (
+                SELECT v.ord::int AS ord, v.username, v.email, v.password
+                FROM (VALUES :rows) AS v(ord, username, email, password)
+            ),
+            inserted AS (
+                INSERT INTO users (username_key, username, email, password, created_at, updated_at)
+                SELECT lower(i.username), i.username, i.email, i.password, LOCALTIMESTAMP, LOCALTIMESTAMP
+                FROM input i
+                WHERE NOT EXISTS (SELECT 1 FROM user_emails e WHERE e.email_key = lower(i.email))
+                ON CONFLICT (username_key) DO NOTHING
+                RETURNING id, username_key, created_at
+            )
+            SELECT i.ord, ins.id, ins.created_at,
+                   EXISTS (SELECT 1 FROM user_emails e WHERE e.email_key = lower(i.email)) AS email_taken
+            FROM input i
+            LEFT JOIN inserted ins ON ins.username_key = lower(i.username)
+            ORDER BY i.ord
+            """;
+    
+    private static final String GRANT_DEFAULT_ROLE = """
+            INSERT INTO user_roles (user_id, role_id)
+            SELECT i.id, r.id
+            FROM user_ids i
+            JOIN roles r ON r.name = :role
+            WHERE i.id IN (:userIds)
+            ON CONFLICT DO NOTHING
+            """;
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public record InsertResult(int ordinal, Long id, LocalDateTime createdAt, boolean emailTaken) {
+        
+        public boolean inserted() {
+            return id != null;
+        }
+    }
+    
+    @Transactional
+    public List<InsertResult> insertAll(List<User> users) {
+        List<Object[]> rows = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            rows.add(new Object[]{i, user.getUsername(), user.getEmail(), user.getPassword()});
+        }
+        List<InsertResult> results = jdbcTemplate.query(INSERT_USERS, new MapSqlParameterSource("rows", rows), (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            return new InsertResult(
+                    rs.getInt("ord"),
+                    rs.getObject("id", Long.class),
+                    createdAt == null ? null : createdAt.toLocalDateTime(),
+                    rs.getBoolean("email_taken"));
+        });
+        List<Long> insertedIds = results.stream()
+                .filter(InsertResult::inserted)
+                .map(InsertResult::id)
+                .toList();
+        if (!insertedIds.isEmpty()) {
+            jdbcTemplate.update(GRANT_DEFAULT_ROLE, new MapSqlParameterSource()
+                    .addValue("role", Role.DEFAULT_NAME)
+                    .addValue("userIds", insertedIds));
+        }
+        return results;
+    }
+}
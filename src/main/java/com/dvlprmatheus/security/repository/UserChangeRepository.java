@@ -0,0 +1,72 @@
+package com.dvlprmatheus.security.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserChangeRepository {
+    
+    private static final String SELECT_CHANGES = """
+            SELECT seq, tx_id::text AS tx_id, user_id, change_type, role_name, changed_at
+            FROM user_changes
+            """;
+    
+    private static final String VISIBLE = "tx_id < pg_snapshot_xmin(pg_current_snapshot())";
+    
+    private static final RowMapper<UserChange> ROW_MAPPER = (rs, rowNum) -> new UserChange(
+            rs.getLong("seq"),
+            rs.getString("tx_id"),
+            rs.getLong("user_id"),
+            rs.getString("change_type"),
+            rs.getString("role_name"),
+            rs.getTimestamp("changed_at").toLocalDateTime());
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public record Position(String txId, long seq) {
+    }
+    
+    public record UserChange(long seq, String txId, long userId, String changeType, String roleName,
+                             LocalDateTime changedAt) {
+        
+        public Position position() {
+            return new Position(txId, seq);
+        }
+    }
+    
+    public Optional<Position> findPosition(long seq) {
+        return jdbcTemplate.query("SELECT tx_id::text AS tx_id FROM user_changes WHERE seq = ?",
+                        (rs, rowNum) -> new Position(rs.getString("tx_id"), seq), seq)
+                .stream()
+                .findFirst();
+    }
+    
+    public List<UserChange> findAfter(Position after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_CHANGES + "WHERE " + VISIBLE + " ORDER BY tx_id, seq LIMIT ?",
+                    ROW_MAPPER, limit);
+        }
+        return jdbcTemplate.query(SELECT_CHANGES
+                        + "WHERE (tx_id, seq) > (CAST(? AS xid8), ?) AND " + VISIBLE + " ORDER BY tx_id, seq LIMIT ?",
+                ROW_MAPPER, after.txId(), after.seq(), limit);
+    }
+    
+    public int deleteChangedBefore(LocalDateTime cutoff, int batchSize) {
+        return jdbcTemplate.update("""
+                DELETE FROM user_changes
+                WHERE seq IN (SELECT seq
+                              FROM user_changes
+                              WHERE changed_at < ?
+                              ORDER BY seq
+                              LIMIT ?)
+                """, Timestamp.valueOf(cutoff), batchSize);
+    }
+}
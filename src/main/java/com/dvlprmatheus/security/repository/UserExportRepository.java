@@ -0,0 +1,58 @@
+package com.dvlprmatheus.security.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class UserExportRepository {
+    
+    private static final String SELECT_USERS = """
+            SELECT u.id, u.username, u.email, u.created_at, u.last_login_at, u.login_count,
+                   ARRAY(SELECT r.name
+                         FROM user_roles ur
+                         JOIN roles r ON r.id = ur.role_id
+                         WHERE ur.user_id = u.id
+                         ORDER BY r.name) AS roles
+            FROM users u
+            ORDER BY u.id
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public record ExportedUser(long id, String username, String email, String[] roles,
+                               LocalDateTime createdAt, LocalDateTime lastLoginAt, long loginCount) {
+    }
+    
+    public void forEach(int fetchSize, Consumer<ExportedUser> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_USERS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, rs -> {
+            Array roles = rs.getArray("roles");
+            consumer.accept(new ExportedUser(
+                    rs.getLong("id"),
+                    rs.getString("username"),
+                    rs.getString("email"),
+                    (String[]) roles.getArray(),
+                    toLocalDateTime(rs.getTimestamp("created_at")),
+                    toLocalDateTime(rs.getTimestamp("last_login_at")),
+                    rs.getLong("login_count")));
+            roles.free();
+        });
+    }
+    
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
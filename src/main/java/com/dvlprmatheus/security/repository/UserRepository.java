@@ -1,20 +1,87 @@
 package com.dvlprmatheus.security.repository;
 
 import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.repository.projection.UserIdentity;
+import com.dvlprmatheus.security.repository.projection.UserLoginActivity;
+import com.dvlprmatheus.security.repository.projection.UserRoleName;
+import com.dvlprmatheus.security.repository.projection.UserSearchHit;
+import com.dvlprmatheus.security.repository.projection.UserSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
-    Optional<User> findByUsername(String username);
+    @Query(value = "SELECT u.* FROM users u WHERE u.username_key = "
+            + "(SELECT i.username_key FROM user_ids i WHERE i.id = :id) AND u.id = :id", nativeQuery = true)
+    Optional<User> findById(@Param("id") Long id);
     
-    Optional<User> findByEmail(String email);
+    @Query("select u from User u where u.usernameKey = lower(:username)")
+    Optional<User> findByUsername(@Param("username") String username);
     
-    Boolean existsByUsername(String username);
+    @Query(value = "SELECT u.* FROM users u WHERE u.username_key = "
+            + "(SELECT e.username_key FROM user_emails e WHERE e.email_key = lower(:email))", nativeQuery = true)
+    Optional<User> findByEmail(@Param("email") String email);
     
-    Boolean existsByEmail(String email);
+    @Query("select distinct u from User u left join fetch u.roles where u.usernameKey in :usernameKeys")
+    List<User> findAllWithRolesByUsernameKeyIn(@Param("usernameKeys") Collection<String> usernameKeys);
+    
+    @Query("select count(u) > 0 from User u where u.usernameKey = lower(:username)")
+    Boolean existsByUsername(@Param("username") String username);
+    
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM user_emails WHERE email_key = lower(:email))", nativeQuery = true)
+    Boolean existsByEmail(@Param("email") String email);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u.username as username, u.email as email from User u")
+    Stream<UserIdentity> streamAllIdentities();
+    
+    @Query("select u.id as id, u.username as username, u.email as email, u.createdAt as createdAt "
+            + "from User u where u.id > :after order by u.id")
+    List<UserSummary> findSummariesAfter(@Param("after") Long after, Limit limit);
+    
+    @Query("select u.id as id, u.username as username, u.email as email, u.createdAt as createdAt "
+            + "from User u join u.roles r where r.name = :role and u.id > :after order by u.id")
+    List<UserSummary> findSummariesAfterByRole(@Param("after") Long after, @Param("role") String role, Limit limit);
+    
+    @Query("select u.id as id, u.username as username, u.lastLoginAt as lastLoginAt, u.loginCount as loginCount "
+            + "from User u where u.id > :after order by u.id")
+    List<UserLoginActivity> findLoginActivityAfter(@Param("after") Long after, Limit limit);
+    
+    @Query("select u.id as id, u.username as username, u.lastLoginAt as lastLoginAt, u.loginCount as loginCount "
+            + "from User u where (u.lastLoginAt is null or u.lastLoginAt < :cutoff) and u.id > :after order by u.id")
+    List<UserLoginActivity> findInactiveSinceAfter(@Param("cutoff") LocalDateTime cutoff, @Param("after") Long after, Limit limit);
+    
+    @Query(value = "SELECT ur.user_id AS \"userId\", r.name AS \"roleName\" FROM user_roles ur "
+            + "JOIN roles r ON r.id = ur.role_id WHERE ur.user_id IN (:userIds)", nativeQuery = true)
+    List<UserRoleName> findRoleNamesByUserIds(@Param("userIds") Collection<Long> userIds);
+    
+    @Query(value = "(SELECT u.id AS id, u.username AS username, u.email AS email, 0 AS \"matchRank\", "
+            + "CAST(1 AS double precision) AS score FROM users u WHERE u.username_key LIKE :prefix "
+            + "ORDER BY u.username_key USING ~<~ LIMIT :limit) "
+            + "UNION ALL "
+            + "(SELECT u.id, u.username, u.email, 1, CAST(1 AS double precision) FROM users u "
+            + "WHERE lower(u.email) LIKE :prefix ORDER BY lower(u.email) USING ~<~ LIMIT :limit)", nativeQuery = true)
+    List<UserSearchHit> searchByPrefix(@Param("prefix") String prefix, @Param("limit") int limit);
+    
+    @Query(value = "SELECT u.id AS id, u.username AS username, u.email AS email, 2 AS \"matchRank\", "
+            + "CAST(greatest(word_similarity(:term, u.username_key), word_similarity(:term, lower(u.email))) AS double precision) AS score "
+            + "FROM users u WHERE :term <% u.username_key OR :term <% lower(u.email) "
+            + "ORDER BY score DESC, u.id LIMIT :limit", nativeQuery = true)
+    List<UserSearchHit> searchBySimilarity(@Param("term") String term, @Param("limit") int limit);
 }
-
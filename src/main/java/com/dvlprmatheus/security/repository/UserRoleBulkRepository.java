@@ -0,0 +1,69 @@
+package com.dvlprmatheus.security.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRoleBulkRepository {
+    
+    private static final String GRANT_BY_IDS = """
+            WITH granted AS (
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT i.id, :roleId FROM user_ids i WHERE i.id IN (:userIds)
+                ON CONFLICT DO NOTHING
+                RETURNING user_id
+            )
+            UPDATE users u SET updated_at = LOCALTIMESTAMP
+            FROM granted g JOIN user_ids i ON i.id = g.user_id
+            WHERE u.username_key = i.username_key AND u.id = i.id
+            RETURNING u.id
+            """;
+    
+    private static final String REVOKE_BY_IDS = """
+            WITH revoked AS (
+                DELETE FROM user_roles
+                WHERE role_id = :roleId AND user_id IN (:userIds)
+                RETURNING user_id
+            )
+            UPDATE users u SET updated_at = LOCALTIMESTAMP
+            FROM revoked r JOIN user_ids i ON i.id = r.user_id
+            WHERE u.username_key = i.username_key AND u.id = i.id
+            RETURNING u.id
+            """;
+    
+    private static final String SELECT_IDS_IN_RANGE = """
+            SELECT id FROM user_ids
+            WHERE id > :afterId AND id <= :toId
+            ORDER BY id
+            LIMIT :limit
+            """;
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    public List<Long> grant(Long roleId, Collection<Long> userIds) {
+        return jdbcTemplate.queryForList(GRANT_BY_IDS, idsParams(roleId, userIds), Long.class);
+    }
+    
+    public List<Long> revoke(Long roleId, Collection<Long> userIds) {
+        return jdbcTemplate.queryForList(REVOKE_BY_IDS, idsParams(roleId, userIds), Long.class);
+    }
+    
+    public List<Long> findUserIds(long afterId, long toId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_IDS_IN_RANGE, new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("toId", toId)
+                .addValue("limit", limit), Long.class);
+    }
+    
+    private static MapSqlParameterSource idsParams(Long roleId, Collection<Long> userIds) {
+        return new MapSqlParameterSource()
+                .addValue("roleId", roleId)
+                .addValue("userIds", userIds);
+    }
+}
@@ -0,0 +1,8 @@
+package com.dvlprmatheus.security.repository.projection;
+
+public interface UserIdentity {
+    
+    String getUsername();
+    
+    String getEmail();
+}
@@ -0,0 +1,14 @@
+package com.dvlprmatheus.security.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface UserLoginActivity {
+    
+    Long getId();
+    
+    String getUsername();
+    
+    LocalDateTime getLastLoginAt();
+    
+    Long getLoginCount();
+}
@@ -0,0 +1,8 @@
+package com.dvlprmatheus.security.repository.projection;
+
+public interface UserRoleName {
+    
+    Long getUserId();
+    
+    String getRoleName();
+}
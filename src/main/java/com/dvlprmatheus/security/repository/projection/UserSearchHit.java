@@ -0,0 +1,14 @@
+package com.dvlprmatheus.security.repository.projection;
+
+public interface UserSearchHit {
+    
+    Long getId();
+    
+    String getUsername();
+    
+    String getEmail();
+    
+    Integer getMatchRank();
+    
+    Double getScore();
+}
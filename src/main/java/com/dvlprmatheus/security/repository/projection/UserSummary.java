@@ -0,0 +1,14 @@
+package com.dvlprmatheus.security.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface UserSummary {
+    
+    Long getId();
+    
+    String getUsername();
+    
+    String getEmail();
+    
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,82 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.config.monitoring.AuthFailureProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class AuthenticationFailureMonitor {
+    
+    public enum Failure {
+        BAD_CREDENTIALS,
+        UNKNOWN_USER,
+        INVALID_TOKEN,
+        INVALID_CLIENT,
+        USERNAME_TAKEN,
+        EMAIL_TAKEN,
+        ACCOUNT_DISABLED,
+        ACCOUNT_LOCKED
+    }
+    
+    private static final Failure[] FAILURES = Failure.values();
+    
+    private final long intervalNanos;
+    private final LongAdder[] totals = new LongAdder[FAILURES.length];
+    private final LongAdder[] window = new LongAdder[FAILURES.length];
+    private final String[] samples = new String[FAILURES.length];
+    private final AtomicLong nextSummaryAt;
+    
+    public AuthenticationFailureMonitor(AuthFailureProperties authFailureProperties) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(authFailureProperties.getSummaryIntervalSeconds());
+        for (int i = 0; i < FAILURES.length; i++) {
+            totals[i] = new LongAdder();
+            window[i] = new LongAdder();
+        }
+        this.nextSummaryAt = new AtomicLong(System.nanoTime() + intervalNanos);
+    }
+    
+    public void record(Failure failure, String subject) {
+        int index = failure.ordinal();
+        totals[index].increment();
+        window[index].increment();
+        samples[index] = subject;
+        if (log.isDebugEnabled()) {
+            log.debug("{}: {}", failure, subject);
+        }
+        
+        long now = System.nanoTime();
+        long next = nextSummaryAt.get();
+        if (now - next >= 0 && nextSummaryAt.compareAndSet(next, now + intervalNanos)) {
+            summarize();
+        }
+    }
+    
+    public long getTotal(Failure failure) {
+        return totals[failure.ordinal()].sum();
+    }
+    
+    private void summarize() {
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < FAILURES.length; i++) {
+            long count = window[i].sumThenReset();
+            if (count > 0) {
+                if (!summary.isEmpty()) {
+                    summary.append(", ");
+                }
+                summary.append(FAILURES[i]).append('=').append(count);
+                String sample = samples[i];
+                if (sample != null) {
+                    summary.append(" (e.g. ").append(sample).append(')');
+                }
+            }
+        }
+        if (!summary.isEmpty()) {
+            log.warn("Authentication failures in the last {}s: {}", TimeUnit.NANOSECONDS.toSeconds(intervalNanos), summary);
+        }
+    }
+}
@@ -6,19 +6,28 @@ import com.dvlprmatheus.security.api.exception.UsernameAlreadyExistsException;
 import com.dvlprmatheus.security.api.request.LoginRequest;
 import com.dvlprmatheus.security.api.request.RegisterRequest;
 import com.dvlprmatheus.security.api.response.AuthResponse;
+import com.dvlprmatheus.security.entity.Role;
 import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.repository.RoleRepository;
 import com.dvlprmatheus.security.repository.UserRepository;
+import com.dvlprmatheus.security.service.event.UsersChangedEvent;
+import com.dvlprmatheus.security.service.jfr.LoginEvent;
+import com.dvlprmatheus.security.service.jfr.RegistrationEvent;
 import com.dvlprmatheus.security.utils.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Slf4j
 @Service
@@ -26,57 +35,117 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthenticationService {
     
     private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final AvailabilityService availabilityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuthenticationFailureMonitor failureMonitor;
+    private final LoginAttemptService loginAttemptService;
+    private final LoginActivityRecorder loginActivityRecorder;
+    private final RegistrationBatcher registrationBatcher;
     
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         log.info("Attempting to register new user with username: {}", request.getUsername());
-        
-        if (userRepository.existsByUsername(request.getUsername())) {
-            log.warn("Registration failed: username already exists - {}", request.getUsername());
-            throw new UsernameAlreadyExistsException(request.getUsername());
-        }
-        
-        if (userRepository.existsByEmail(request.getEmail())) {
-            log.warn("Registration failed: email already exists - {}", request.getEmail());
-            throw new EmailAlreadyExistsException(request.getEmail());
+        RegistrationEvent event = new RegistrationEvent();
+        event.begin();
+        event.setOutcome("failed");
+        long start = System.nanoTime();
+        long hashNanos = 0;
+        long databaseEnd = 0;
+        try {
+            if (userRepository.existsByUsername(request.getUsername())) {
+                event.setOutcome("username_taken");
+                failureMonitor.record(AuthenticationFailureMonitor.Failure.USERNAME_TAKEN, request.getUsername());
+                throw new UsernameAlreadyExistsException(request.getUsername());
+            }
+            
+            if (userRepository.existsByEmail(request.getEmail())) {
+                event.setOutcome("email_taken");
+                failureMonitor.record(AuthenticationFailureMonitor.Failure.EMAIL_TAKEN, request.getEmail());
+                throw new EmailAlreadyExistsException(request.getEmail());
+            }
+            
+            long hashStart = System.nanoTime();
+            String encodedPassword = passwordEncoder.encode(request.getPassword());
+            hashNanos = System.nanoTime() - hashStart;
+            event.setHashDuration(hashNanos);
+            
+            User user = User.builder()
+                    .username(request.getUsername())
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .build();
+            
+            if (registrationBatcher.isEnabled()) {
+                event.setBatched(true);
+                try {
+                    user = registrationBatcher.register(user);
+                } catch (UsernameAlreadyExistsException e) {
+                    event.setOutcome("username_taken");
+                    failureMonitor.record(AuthenticationFailureMonitor.Failure.USERNAME_TAKEN, request.getUsername());
+                    throw e;
+                } catch (EmailAlreadyExistsException e) {
+                    event.setOutcome("email_taken");
+                    failureMonitor.record(AuthenticationFailureMonitor.Failure.EMAIL_TAKEN, request.getEmail());
+                    throw e;
+                }
+            } else {
+                Role defaultRole = roleRepository.findByName(Role.DEFAULT_NAME)
+                        .orElseThrow(() -> new IllegalStateException("Default role " + Role.DEFAULT_NAME + " is missing"));
+                user.getRoles().add(defaultRole);
+                user = userRepository.save(user);
+                eventPublisher.publishEvent(new UsersChangedEvent(List.of(user.getId())));
+            }
+            databaseEnd = System.nanoTime();
+            event.setOutcome("created");
+            log.debug("User created successfully with ID: {}", user.getId());
+            availabilityService.record(user.getUsername(), user.getEmail());
+            
+            String token = jwtUtil.generateToken(user);
+            log.info("User registered successfully: {}", request.getUsername());
+            
+            return AuthResponse.builder()
+                    .token(token)
+                    .type("Bearer")
+                    .username(user.getUsername())
+                    .build();
+        } finally {
+            event.setDatabaseDuration((databaseEnd == 0 ? System.nanoTime() : databaseEnd) - start - hashNanos);
+            event.commit();
         }
-        
-        User user = User.builder()
-                .username(request.getUsername())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .build();
-        
-        user = userRepository.save(user);
-        log.debug("User created successfully with ID: {}", user.getId());
-        
-        String token = jwtUtil.generateToken(user);
-        log.info("User registered successfully: {}", request.getUsername());
-        
-        return AuthResponse.builder()
-                .token(token)
-                .type("Bearer")
-                .username(user.getUsername())
-                .build();
     }
     
     public AuthResponse login(LoginRequest request) {
         log.info("Attempting to login user: {}", request.getUsername());
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        event.setOutcome("failed");
         try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            request.getUsername(),
-                            request.getPassword()
-                    )
-            );
+            loginAttemptService.checkAllowed(request.getUsername());
+            long authenticateStart = System.nanoTime();
+            Authentication authentication;
+            try {
+                authentication = authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                request.getUsername(),
+                                request.getPassword()
+                        )
+                );
+            } finally {
+                event.setAuthenticateDuration(System.nanoTime() - authenticateStart);
+            }
             
             User user = (User) authentication.getPrincipal();
             log.debug("User authenticated successfully: {}", user.getUsername());
+            loginAttemptService.recordSuccess(request.getUsername());
+            loginActivityRecorder.record(user.getId());
             
+            long tokenStart = System.nanoTime();
             String token = jwtUtil.generateToken(user);
+            event.setTokenDuration(System.nanoTime() - tokenStart);
+            event.setOutcome("success");
             log.info("Login successful for user: {}", request.getUsername());
             
             return AuthResponse.builder()
@@ -84,12 +153,22 @@ public class AuthenticationService {
                     .type("Bearer")
                     .username(user.getUsername())
                     .build();
+        } catch (UsernameNotFoundException e) {
+            event.setOutcome("unknown_user");
+            throw AuthenticationFailedException.INVALID_CREDENTIALS;
         } catch (BadCredentialsException e) {
-            log.warn("Login failed: invalid credentials for user: {}", request.getUsername());
-            throw new AuthenticationFailedException("Invalid credentials. Please check your username and password.", e);
+            event.setOutcome("bad_credentials");
+            failureMonitor.record(AuthenticationFailureMonitor.Failure.BAD_CREDENTIALS, request.getUsername());
+            loginAttemptService.recordFailure(request.getUsername());
+            throw AuthenticationFailedException.INVALID_CREDENTIALS;
+        } catch (LockedException e) {
+            event.setOutcome("locked");
+            throw e;
         } catch (AuthenticationException e) {
-            log.warn("Login failed: authentication exception for user: {} - {}", request.getUsername(), e.getMessage());
-            throw new AuthenticationFailedException("Authentication failed: " + e.getMessage(), e);
+            failureMonitor.record(AuthenticationFailureMonitor.Failure.BAD_CREDENTIALS, request.getUsername());
+            throw AuthenticationFailedException.expected("Authentication failed: " + e.getMessage());
+        } finally {
+            event.commit();
         }
     }
 }
@@ -0,0 +1,95 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.response.AvailabilityResponse;
+import com.dvlprmatheus.security.config.availability.AvailabilityProperties;
+import com.dvlprmatheus.security.repository.UserRepository;
+import com.dvlprmatheus.security.repository.projection.UserIdentity;
+import com.dvlprmatheus.security.utils.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    private final UserRepository userRepository;
+    private final AvailabilityProperties availabilityProperties;
+
+    private volatile BloomFilter usernames;
+    private volatile BloomFilter emails;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildFilters() {
+        log.info("Building availability filters for {} expected entries", availabilityProperties.getExpectedInsertions());
+        long start = System.nanoTime();
+
+        usernames = new BloomFilter(availabilityProperties.getExpectedInsertions(), availabilityProperties.getFalsePositiveRate());
+        emails = new BloomFilter(availabilityProperties.getExpectedInsertions(), availabilityProperties.getFalsePositiveRate());
+
+        long count = 0;
+        try (Stream<UserIdentity> identities = userRepository.streamAllIdentities()) {
+            for (UserIdentity identity : (Iterable<UserIdentity>) identities::iterator) {
+                usernames.put(normalize(identity.getUsername()));
+                emails.put(normalize(identity.getEmail()));
+                count++;
+            }
+        }
+        ready = true;
+
+        if (count > availabilityProperties.getExpectedInsertions()) {
+            log.warn("Availability filters hold {} users, above the expected {}; false positive rate will degrade",
+                    count, availabilityProperties.getExpectedInsertions());
+        }
+        log.info("Availability filters built with {} users in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void record(String username, String email) {
+        BloomFilter currentUsernames = usernames;
+        BloomFilter currentEmails = emails;
+        if (currentUsernames != null && currentEmails != null) {
+            currentUsernames.put(normalize(username));
+            currentEmails.put(normalize(email));
+        }
+    }
+
+    public AvailabilityResponse check(String username, String email) {
+        AvailabilityResponse.AvailabilityResponseBuilder response = AvailabilityResponse.builder();
+        if (username != null && !username.isBlank()) {
+            response.username(username).usernameAvailable(!isUsernameTaken(username));
+        }
+        if (email != null && !email.isBlank()) {
+            response.email(email).emailAvailable(!isEmailTaken(email));
+        }
+        return response.build();
+    }
+
+    public boolean isUsernameTaken(String username) {
+        if (ready && !usernames.mightContain(normalize(username))) {
+            log.debug("Username {} is definitely available", username);
+            return false;
+        }
+        return userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailTaken(String email) {
+        if (ready && !emails.mightContain(normalize(email))) {
+            log.debug("Email {} is definitely available", email);
+            return false;
+        }
+        return userRepository.existsByEmail(email);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
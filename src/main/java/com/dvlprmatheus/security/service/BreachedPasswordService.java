@@ -0,0 +1,50 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.config.password.BreachedPasswordProperties;
+import com.dvlprmatheus.security.utils.BreachedHashCorpus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BreachedPasswordService implements SmartInitializingSingleton {
+    
+    private final BreachedPasswordProperties breachedPasswordProperties;
+    
+    private volatile BreachedHashCorpus corpus;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!breachedPasswordProperties.getEnabled()) {
+            return;
+        }
+        String path = breachedPasswordProperties.getPath();
+        try {
+            long start = System.nanoTime();
+            corpus = BreachedHashCorpus.open(Path.of(path));
+            log.info("Breached password check enabled with {} {} hashes from {} (mapped in {} ms)",
+                    corpus.size(), corpus.algorithm(), path, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.error("Breached password check disabled, could not open corpus {}: {}", path, e.getMessage());
+        }
+    }
+    
+    public boolean isEnabled() {
+        return corpus != null;
+    }
+    
+    public boolean isBreached(String password) {
+        BreachedHashCorpus current = corpus;
+        return current != null && password != null && current.containsPassword(password);
+    }
+    
+    void setCorpus(BreachedHashCorpus corpus) {
+        this.corpus = corpus;
+    }
+}
@@ -0,0 +1,96 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.config.activity.LoginActivityProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginActivityRecorder {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final LoginActivityProperties loginActivityProperties;
+    
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    
+    record Pending(long logins, long lastLoginAt) {
+        
+        Pending merge(Pending other) {
+            return new Pending(logins + other.logins, Math.max(lastLoginAt, other.lastLoginAt));
+        }
+    }
+    
+    public void record(Long userId) {
+        pending.merge(userId, new Pending(1, System.currentTimeMillis()), Pending::merge);
+    }
+    
+    int pendingCount() {
+        return pending.size();
+    }
+    
+    @Scheduled(fixedDelayString = "${login-activity.flush-interval-millis:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        
+        List<Map.Entry<Long, Pending>> drained = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            Pending drainedEntry = pending.remove(userId);
+            if (drainedEntry != null) {
+                drained.add(Map.entry(userId, drainedEntry));
+            }
+        }
+        
+        int batchSize = loginActivityProperties.getFlushBatchSize();
+        for (int i = 0; i < drained.size(); i += batchSize) {
+            List<Map.Entry<Long, Pending>> chunk = drained.subList(i, Math.min(i + batchSize, drained.size()));
+            try {
+                jdbcTemplate.update(updateSql(chunk.size()), updateArgs(chunk));
+            } catch (DataAccessException e) {
+                chunk.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Pending::merge));
+                log.warn("Failed to flush login activity for {} users, will retry: {}", chunk.size(), e.getMessage());
+            }
+        }
+        log.debug("Flushed login activity for {} users", drained.size());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    private static String updateSql(int rows) {
+        StringBuilder sql = new StringBuilder(240 + rows * 40)
+                .append("UPDATE users u SET last_login_at = GREATEST(u.last_login_at, v.last_login_at), ")
+                .append("login_count = u.login_count + v.logins FROM (VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?::bigint, ?::timestamp, ?::bigint)");
+        }
+        return sql.append(") AS v(id, last_login_at, logins) JOIN user_ids i ON i.id = v.id ")
+                .append("WHERE u.username_key = i.username_key AND u.id = i.id").toString();
+    }
+    
+    private static Object[] updateArgs(List<Map.Entry<Long, Pending>> chunk) {
+        Object[] args = new Object[chunk.size() * 3];
+        int index = 0;
+        for (Map.Entry<Long, Pending> entry : chunk) {
+            args[index++] = entry.getKey();
+            args[index++] = new Timestamp(entry.getValue().lastLoginAt());
+            args[index++] = entry.getValue().logins();
+        }
+        return args;
+    }
+}
@@ -0,0 +1,169 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.AccountLockedException;
+import com.dvlprmatheus.security.config.lockout.LoginLockoutProperties;
+import com.dvlprmatheus.security.service.cache.UserCacheNotifier;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginAttemptService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET failed_login_attempts = ?, last_failed_login_at = ?, locked_until = ? WHERE username_key = lower(?)";
+    private static final int[] UPDATE_TYPES = {Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoginLockoutProperties loginLockoutProperties;
+    private final UserCacheNotifier userCacheNotifier;
+
+    private final ConcurrentHashMap<String, Attempts> attempts = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    record Attempts(int failures, long lastFailureAt, long lockedUntil) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long now = System.currentTimeMillis();
+        long resetAfter = TimeUnit.SECONDS.toMillis(loginLockoutProperties.getResetAfterSeconds());
+        jdbcTemplate.query(
+                "SELECT username_key AS username, failed_login_attempts, last_failed_login_at, locked_until FROM users WHERE failed_login_attempts > 0",
+                rs -> {
+                    Timestamp lastFailure = rs.getTimestamp("last_failed_login_at");
+                    Timestamp lockedUntil = rs.getTimestamp("locked_until");
+                    Attempts loaded = new Attempts(
+                            rs.getInt("failed_login_attempts"),
+                            lastFailure == null ? 0 : lastFailure.getTime(),
+                            lockedUntil == null ? 0 : lockedUntil.getTime());
+                    String username = rs.getString("username");
+                    if (isStale(loaded, now, resetAfter)) {
+                        dirty.add(username);
+                    } else {
+                        attempts.merge(username, loaded, (current, stored) -> current);
+                    }
+                });
+        log.info("Loaded failed-login state for {} accounts", attempts.size());
+    }
+
+    public void checkAllowed(String username) {
+        Attempts current = attempts.get(key(username));
+        if (current == null) {
+            return;
+        }
+        long remaining = current.lockedUntil() - System.currentTimeMillis();
+        if (remaining > 0) {
+            throw new AccountLockedException(TimeUnit.MILLISECONDS.toSeconds(remaining + 999));
+        }
+    }
+
+    public void recordFailure(String username) {
+        long now = System.currentTimeMillis();
+        long resetAfter = TimeUnit.SECONDS.toMillis(loginLockoutProperties.getResetAfterSeconds());
+        String key = key(username);
+        attempts.compute(key, (ignored, current) -> {
+            int failures = current == null || isStale(current, now, resetAfter) ? 1 : current.failures() + 1;
+            return new Attempts(failures, now, now + lockDurationMillis(failures));
+        });
+        dirty.add(key);
+    }
+
+    public void recordSuccess(String username) {
+        String key = key(username);
+        if (attempts.remove(key) != null) {
+            dirty.add(key);
+        }
+    }
+
+    public boolean isLocked(String username) {
+        Attempts current = attempts.get(key(username));
+        return current != null && current.lockedUntil() > System.currentTimeMillis();
+    }
+
+    long lockDurationMillis(int failures) {
+        int excess = failures - loginLockoutProperties.getMaxFailures();
+        if (excess < 0) {
+            return 0;
+        }
+        long seconds = loginLockoutProperties.getBaseLockSeconds() << Math.min(excess, 30);
+        return TimeUnit.SECONDS.toMillis(Math.min(seconds, loginLockoutProperties.getMaxLockSeconds()));
+    }
+
+    @Scheduled(fixedDelayString = "${login-lockout.flush-interval-millis:1000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        long resetAfter = TimeUnit.SECONDS.toMillis(loginLockoutProperties.getResetAfterSeconds());
+        attempts.forEach((username, current) -> {
+            if (isStale(current, now, resetAfter) && attempts.remove(username, current)) {
+                dirty.add(username);
+            }
+        });
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<String> usernames = new ArrayList<>(dirty.size());
+        List<String> locked = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>(dirty.size());
+        for (Iterator<String> iterator = dirty.iterator(); iterator.hasNext(); ) {
+            String username = iterator.next();
+            iterator.remove();
+            Attempts current = attempts.get(username);
+            usernames.add(username);
+            if (current != null && current.lockedUntil() > now) {
+                locked.add(username);
+            }
+            batch.add(current == null
+                    ? new Object[]{0, null, null, username}
+                    : new Object[]{
+                            current.failures(),
+                            new Timestamp(current.lastFailureAt()),
+                            current.lockedUntil() > 0 ? new Timestamp(current.lockedUntil()) : null,
+                            username});
+        }
+
+        try {
+            for (int i = 0; i < batch.size(); i += loginLockoutProperties.getFlushBatchSize()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch.subList(i, Math.min(i + loginLockoutProperties.getFlushBatchSize(), batch.size())), UPDATE_TYPES);
+            }
+            log.debug("Flushed failed-login state for {} accounts", batch.size());
+        } catch (DataAccessException e) {
+            dirty.addAll(usernames);
+            log.warn("Failed to flush failed-login state for {} accounts, will retry: {}", batch.size(), e.getMessage());
+            return;
+        }
+        locked.forEach(userCacheNotifier::publishUsername);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isStale(Attempts current, long now, long resetAfter) {
+        return current.lockedUntil() <= now && now - current.lastFailureAt() >= resetAfter;
+    }
+}
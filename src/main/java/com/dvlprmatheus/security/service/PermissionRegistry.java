@@ -0,0 +1,151 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.entity.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionRegistry implements SmartInitializingSingleton {
+    
+    public static final long UNRESOLVED = 1L << 63;
+    
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String SCOPE_PREFIX = "SCOPE_";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    
+    public record Snapshot(Map<String, Long> roleMasks, Map<String, Long> permissionMasks) {
+        
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+        
+        public long roleMask(String role) {
+            Long mask = roleMasks.get(role);
+            return mask == null ? 0 : mask;
+        }
+        
+        public long grantedMask(String permission) {
+            Long mask = permissionMasks.get(permission);
+            return mask == null ? 0 : mask;
+        }
+        
+        public long requiredMask(Collection<String> permissions) {
+            long mask = 0;
+            for (String permission : permissions) {
+                Long bit = permissionMasks.get(permission);
+                mask |= bit == null ? UNRESOLVED : bit;
+            }
+            return mask;
+        }
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+    
+    @Scheduled(fixedDelayString = "${permissions.refresh-interval-millis:60000}",
+            initialDelayString = "${permissions.refresh-interval-millis:60000}")
+    public void refresh() {
+        try {
+            Map<String, Long> permissionMasks = new HashMap<>();
+            jdbcTemplate.query("SELECT name, bit FROM permissions", rs -> {
+                permissionMasks.put(rs.getString("name"), 1L << rs.getInt("bit"));
+            });
+            
+            Map<String, Long> directMasks = new HashMap<>();
+            jdbcTemplate.query("SELECT name FROM roles", rs -> {
+                directMasks.put(rs.getString("name"), 0L);
+            });
+            jdbcTemplate.query("SELECT r.name AS role_name, p.bit FROM role_permissions rp "
+                    + "JOIN roles r ON r.id = rp.role_id JOIN permissions p ON p.id = rp.permission_id", rs -> {
+                directMasks.merge(rs.getString("role_name"), 1L << rs.getInt("bit"), (a, b) -> a | b);
+            });
+            
+            Map<String, Set<String>> children = new HashMap<>();
+            jdbcTemplate.query("SELECT parent.name AS parent_name, child.name AS child_name FROM role_hierarchy h "
+                    + "JOIN roles parent ON parent.id = h.parent_role_id JOIN roles child ON child.id = h.child_role_id", rs -> {
+                children.computeIfAbsent(rs.getString("parent_name"), name -> new HashSet<>()).add(rs.getString("child_name"));
+            });
+            
+            snapshot = new Snapshot(Map.copyOf(closure(directMasks, children)), Map.copyOf(permissionMasks));
+            log.debug("Loaded {} permissions for {} roles", permissionMasks.size(), directMasks.size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to refresh permissions, keeping {} loaded roles: {}", snapshot.roleMasks().size(), e.getMessage());
+        }
+    }
+    
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+    
+    public long maskForRoles(Collection<Role> roles) {
+        Snapshot current = snapshot;
+        long mask = 0;
+        for (Role role : roles) {
+            mask |= current.roleMask(role.getName());
+        }
+        return mask;
+    }
+    
+    public long maskForScopes(Collection<String> scopes) {
+        Snapshot current = snapshot;
+        long mask = 0;
+        for (String scope : scopes) {
+            mask |= current.grantedMask(scope);
+        }
+        return mask;
+    }
+    
+    public long maskForAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        Snapshot current = snapshot;
+        long mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            if (name == null) {
+                continue;
+            }
+            if (name.startsWith(ROLE_PREFIX)) {
+                mask |= current.roleMask(name.substring(ROLE_PREFIX.length()));
+            } else if (name.startsWith(SCOPE_PREFIX)) {
+                mask |= current.grantedMask(name.substring(SCOPE_PREFIX.length()));
+            }
+        }
+        return mask;
+    }
+    
+    static Map<String, Long> closure(Map<String, Long> directMasks, Map<String, Set<String>> children) {
+        Map<String, Long> masks = new HashMap<>(directMasks);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, Set<String>> entry : children.entrySet()) {
+                long mask = masks.getOrDefault(entry.getKey(), 0L);
+                long inherited = mask;
+                for (String child : entry.getValue()) {
+                    inherited |= masks.getOrDefault(child, 0L);
+                }
+                if (inherited != mask) {
+                    masks.put(entry.getKey(), inherited);
+                    changed = true;
+                }
+            }
+        }
+        return masks;
+    }
+}
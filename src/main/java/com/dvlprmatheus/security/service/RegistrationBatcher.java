@@ -0,0 +1,217 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.EmailAlreadyExistsException;
+import com.dvlprmatheus.security.api.exception.UsernameAlreadyExistsException;
+import com.dvlprmatheus.security.config.registration.RegistrationBatchProperties;
+import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.repository.UserBatchInsertRepository;
+import com.dvlprmatheus.security.repository.UserBatchInsertRepository.InsertResult;
+import com.dvlprmatheus.security.service.event.UsersChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegistrationBatcher {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final UserBatchInsertRepository userBatchInsertRepository;
+    private final RegistrationBatchProperties registrationBatchProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile BlockingQueue<PendingRegistration> queue;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    record PendingRegistration(User user, CompletableFuture<User> result) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (thread != null || !registrationBatchProperties.getEnabled()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(registrationBatchProperties.getQueueCapacity());
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("registration-batcher")
+                .daemon(true)
+                .start(this::run);
+        log.info("Group-commit registration enabled (max batch {}, max wait {} ms)",
+                registrationBatchProperties.getMaxBatchSize(), registrationBatchProperties.getMaxWaitMillis());
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    public User register(User user) {
+        PendingRegistration pending = new PendingRegistration(user, new CompletableFuture<>());
+        BlockingQueue<PendingRegistration> current = queue;
+        if (!running || current == null || !current.offer(pending)) {
+            flush(List.of(pending));
+        } else if (!running && current.remove(pending)) {
+            flush(List.of(pending));
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        Thread current = thread;
+        if (current == null) {
+            return;
+        }
+        current.join(SHUTDOWN_TIMEOUT_MILLIS);
+        List<PendingRegistration> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        int batchSize = registrationBatchProperties.getMaxBatchSize();
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            flush(remaining.subList(i, Math.min(i + batchSize, remaining.size())));
+        }
+    }
+
+    private void run() {
+        int maxBatchSize = registrationBatchProperties.getMaxBatchSize();
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(registrationBatchProperties.getMaxWaitMillis());
+        List<PendingRegistration> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRegistration first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingRegistration next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<PendingRegistration> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<PendingRegistration> accepted = new ArrayList<>(batch.size());
+        for (PendingRegistration pending : batch) {
+            String usernameKey = pending.user().getUsername().toLowerCase(Locale.ROOT);
+            String emailKey = pending.user().getEmail().toLowerCase(Locale.ROOT);
+            if (usernames.contains(usernameKey)) {
+                pending.result().completeExceptionally(new UsernameAlreadyExistsException(pending.user().getUsername()));
+            } else if (emails.contains(emailKey)) {
+                pending.result().completeExceptionally(new EmailAlreadyExistsException(pending.user().getEmail()));
+            } else {
+                usernames.add(usernameKey);
+                emails.add(emailKey);
+                accepted.add(pending);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            insert(accepted);
+        } catch (DataAccessException e) {
+            if (accepted.size() == 1) {
+                PendingRegistration pending = accepted.get(0);
+                pending.result().completeExceptionally(e instanceof DuplicateKeyException
+                        ? new EmailAlreadyExistsException(pending.user().getEmail())
+                        : e);
+                return;
+            }
+            log.debug("Batched insert of {} registrations failed, retrying one by one: {}", accepted.size(), e.getMessage());
+            for (PendingRegistration pending : accepted) {
+                flush(List.of(pending));
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to insert {} registrations", accepted.size(), e);
+            accepted.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private void insert(List<PendingRegistration> accepted) {
+        List<User> users = new ArrayList<>(accepted.size());
+        accepted.forEach(pending -> users.add(pending.user()));
+        List<InsertResult> results = userBatchInsertRepository.insertAll(users);
+
+        Set<Long> seenIds = new HashSet<>();
+        List<Long> insertedIds = new ArrayList<>(accepted.size());
+        List<Runnable> completions = new ArrayList<>(accepted.size());
+        for (InsertResult result : results) {
+            PendingRegistration pending = accepted.get(result.ordinal());
+            User user = pending.user();
+            if (result.inserted() && seenIds.add(result.id())) {
+                user.setId(result.id());
+                user.setUsernameKey(user.getUsername().toLowerCase(Locale.ROOT));
+                user.setCreatedAt(result.createdAt());
+                user.setUpdatedAt(result.createdAt());
+                insertedIds.add(result.id());
+                completions.add(() -> pending.result().complete(user));
+            } else if (result.emailTaken()) {
+                completions.add(() -> pending.result().completeExceptionally(new EmailAlreadyExistsException(user.getEmail())));
+            } else {
+                completions.add(() -> pending.result().completeExceptionally(new UsernameAlreadyExistsException(user.getUsername())));
+            }
+        }
+
+        log.debug("Inserted {} of {} registrations in one statement", insertedIds.size(), accepted.size());
+        completions.forEach(Runnable::run);
+        for (PendingRegistration pending : accepted) {
+            if (!pending.result().isDone()) {
+                pending.result().completeExceptionally(new IllegalStateException(
+                        "No insert result for registration of " + pending.user().getUsername()));
+            }
+        }
+        if (!insertedIds.isEmpty()) {
+            eventPublisher.publishEvent(new UsersChangedEvent(insertedIds));
+        }
+    }
+}
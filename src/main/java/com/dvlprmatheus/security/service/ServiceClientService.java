@@ -0,0 +1,122 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.AuthenticationFailedException;
+import com.dvlprmatheus.security.api.exception.InvalidScopeException;
+import com.dvlprmatheus.security.api.request.ClientTokenRequest;
+import com.dvlprmatheus.security.api.response.ClientTokenResponse;
+import com.dvlprmatheus.security.config.client.ServiceClientProperties;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ServiceClientService implements SmartInitializingSingleton {
+    
+    private static final byte[] UNKNOWN_CLIENT_HASH = new byte[32];
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtUtil jwtUtil;
+    private final ServiceClientProperties serviceClientProperties;
+    private final AuthenticationFailureMonitor failureMonitor;
+    
+    private volatile Map<String, ServiceClient> clients = Map.of();
+    
+    record ServiceClient(String clientId, byte[] secretHash, Set<String> scopes) {
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+    
+    @Scheduled(fixedDelayString = "${service-clients.refresh-interval-millis:60000}",
+            initialDelayString = "${service-clients.refresh-interval-millis:60000}")
+    public void refresh() {
+        try {
+            Map<String, ServiceClient> loaded = new HashMap<>();
+            jdbcTemplate.query("SELECT client_id, secret_hash, scopes FROM service_clients WHERE enabled", rs -> {
+                String clientId = rs.getString("client_id");
+                loaded.put(clientId, new ServiceClient(
+                        clientId,
+                        HexFormat.of().parseHex(rs.getString("secret_hash").trim()),
+                        parseScopes(rs.getString("scopes"))));
+            });
+            clients = Map.copyOf(loaded);
+            log.debug("Loaded {} service clients", loaded.size());
+        } catch (DataAccessException | IllegalArgumentException e) {
+            log.warn("Failed to refresh service clients, keeping {} loaded clients: {}", clients.size(), e.getMessage());
+        }
+    }
+    
+    public ClientTokenResponse issueToken(ClientTokenRequest request) {
+        ServiceClient client = clients.get(request.getClientId());
+        byte[] presented = sha256(request.getClientSecret());
+        if (!MessageDigest.isEqual(presented, client == null ? UNKNOWN_CLIENT_HASH : client.secretHash()) || client == null) {
+            failureMonitor.record(AuthenticationFailureMonitor.Failure.INVALID_CLIENT, request.getClientId());
+            throw AuthenticationFailedException.INVALID_CLIENT;
+        }
+        
+        Set<String> granted = client.scopes();
+        if (request.getScope() != null && !request.getScope().isBlank()) {
+            granted = parseScopes(request.getScope());
+            if (!client.scopes().containsAll(granted)) {
+                throw InvalidScopeException.NOT_ALLOWED;
+            }
+        }
+        
+        String scope = String.join(" ", granted);
+        long ttlMillis = TimeUnit.SECONDS.toMillis(serviceClientProperties.getTokenTtlSeconds());
+        return ClientTokenResponse.builder()
+                .token(jwtUtil.generateClientToken(client.clientId(), scope, ttlMillis))
+                .type("Bearer")
+                .clientId(client.clientId())
+                .scope(scope)
+                .expiresIn(serviceClientProperties.getTokenTtlSeconds())
+                .build();
+    }
+    
+    public boolean isActive(String clientId) {
+        return clients.containsKey(clientId);
+    }
+    
+    public static Set<String> parseScopes(String scopes) {
+        Set<String> parsed = new TreeSet<>();
+        if (scopes != null) {
+            for (String scope : scopes.trim().split("\\s+")) {
+                if (!scope.isEmpty()) {
+                    parsed.add(scope);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+    
+    static byte[] sha256(String secret) {
+        return SHA_256.get().digest(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,185 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.ResourceNotFoundException;
+import com.dvlprmatheus.security.api.request.BulkRoleRequest;
+import com.dvlprmatheus.security.api.response.BulkRoleResponse;
+import com.dvlprmatheus.security.api.response.LoginActivityPageResponse;
+import com.dvlprmatheus.security.api.response.LoginActivityResponse;
+import com.dvlprmatheus.security.api.response.UserPageResponse;
+import com.dvlprmatheus.security.api.response.UserSummaryResponse;
+import com.dvlprmatheus.security.config.admin.BulkRoleProperties;
+import com.dvlprmatheus.security.entity.Role;
+import com.dvlprmatheus.security.repository.RoleRepository;
+import com.dvlprmatheus.security.repository.UserRepository;
+import com.dvlprmatheus.security.repository.UserRoleBulkRepository;
+import com.dvlprmatheus.security.repository.projection.UserLoginActivity;
+import com.dvlprmatheus.security.repository.projection.UserRoleName;
+import com.dvlprmatheus.security.repository.projection.UserSummary;
+import com.dvlprmatheus.security.service.event.UsersChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserAdminService {
+    
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final UserRoleBulkRepository userRoleBulkRepository;
+    private final BulkRoleProperties bulkRoleProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional(readOnly = true)
+    public UserPageResponse listUsers(Long after, int limit, String role) {
+        log.debug("Listing users after id {} with limit {} and role {}", after, limit, role);
+        
+        Limit pageLimit = Limit.of(limit + 1);
+        List<UserSummary> summaries = role == null || role.isBlank()
+                ? userRepository.findSummariesAfter(after, pageLimit)
+                : userRepository.findSummariesAfterByRole(after, role.trim().toUpperCase(Locale.ROOT), pageLimit);
+        
+        boolean hasMore = summaries.size() > limit;
+        if (hasMore) {
+            summaries = summaries.subList(0, limit);
+        }
+        
+        Map<Long, List<String>> rolesByUser = new HashMap<>();
+        if (!summaries.isEmpty()) {
+            List<Long> userIds = summaries.stream().map(UserSummary::getId).toList();
+            for (UserRoleName roleName : userRepository.findRoleNamesByUserIds(userIds)) {
+                rolesByUser.computeIfAbsent(roleName.getUserId(), id -> new ArrayList<>()).add(roleName.getRoleName());
+            }
+        }
+        
+        List<UserSummaryResponse> users = new ArrayList<>(summaries.size());
+        for (UserSummary summary : summaries) {
+            List<String> roles = rolesByUser.getOrDefault(summary.getId(), new ArrayList<>());
+            roles.sort(null);
+            users.add(UserSummaryResponse.builder()
+                    .id(summary.getId())
+                    .username(summary.getUsername())
+                    .email(summary.getEmail())
+                    .roles(roles)
+                    .createdAt(summary.getCreatedAt())
+                    .build());
+        }
+        
+        return UserPageResponse.builder()
+                .users(users)
+                .nextCursor(hasMore ? users.get(users.size() - 1).getId() : null)
+                .build();
+    }
+    
+    @Transactional(readOnly = true)
+    public LoginActivityPageResponse listLoginActivity(Long after, int limit, Integer inactiveDays) {
+        log.debug("Listing login activity after id {} with limit {} and inactive days {}", after, limit, inactiveDays);
+        
+        Limit pageLimit = Limit.of(limit + 1);
+        List<UserLoginActivity> activities = inactiveDays == null
+                ? userRepository.findLoginActivityAfter(after, pageLimit)
+                : userRepository.findInactiveSinceAfter(LocalDateTime.now().minusDays(inactiveDays), after, pageLimit);
+        
+        boolean hasMore = activities.size() > limit;
+        if (hasMore) {
+            activities = activities.subList(0, limit);
+        }
+        
+        List<LoginActivityResponse> users = new ArrayList<>(activities.size());
+        for (UserLoginActivity activity : activities) {
+            users.add(LoginActivityResponse.builder()
+                    .id(activity.getId())
+                    .username(activity.getUsername())
+                    .lastLoginAt(activity.getLastLoginAt())
+                    .loginCount(activity.getLoginCount())
+                    .build());
+        }
+        
+        return LoginActivityPageResponse.builder()
+                .users(users)
+                .nextCursor(hasMore ? users.get(users.size() - 1).getId() : null)
+                .build();
+    }
+    
+    public BulkRoleResponse changeRole(String roleName, BulkRoleRequest request, boolean grant) {
+        Role role = roleRepository.findByName(roleName.trim().toUpperCase(Locale.ROOT))
+                .orElseThrow(() -> new ResourceNotFoundException("Role", roleName));
+        String action = grant ? "GRANT" : "REVOKE";
+        int chunkSize = bulkRoleProperties.getChunkSize();
+        log.info("Starting bulk {} of role {}", action, role.getName());
+        
+        List<BulkRoleResponse.ChunkResult> chunks = new ArrayList<>();
+        if (request.getUserIds() != null && !request.getUserIds().isEmpty()) {
+            List<Long> userIds = request.getUserIds().stream().distinct().sorted().toList();
+            for (int i = 0; i < userIds.size(); i += chunkSize) {
+                List<Long> chunk = userIds.subList(i, Math.min(i + chunkSize, userIds.size()));
+                chunks.add(runChunk(role, action, grant, chunks.size() + 1, chunk));
+            }
+        } else {
+            Long fromId = request.getFromId();
+            Long toId = request.getToId();
+            if (fromId == null || toId == null || fromId > toId) {
+                throw new IllegalArgumentException("A bulk role range needs fromId <= toId, got " + fromId + "-" + toId);
+            }
+            long cursor = fromId - 1;
+            while (true) {
+                List<Long> chunk = userRoleBulkRepository.findUserIds(cursor, toId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                chunks.add(runChunk(role, action, grant, chunks.size() + 1, chunk));
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                cursor = chunk.get(chunk.size() - 1);
+            }
+        }
+        
+        long totalAffected = chunks.stream().mapToLong(BulkRoleResponse.ChunkResult::getAffected).sum();
+        log.info("Bulk {} of role {} finished: {} users affected in {} chunks", action, role.getName(), totalAffected, chunks.size());
+        
+        return BulkRoleResponse.builder()
+                .role(role.getName())
+                .action(action)
+                .totalAffected(totalAffected)
+                .chunks(chunks)
+                .build();
+    }
+    
+    private BulkRoleResponse.ChunkResult runChunk(Role role, String action, boolean grant, int index, List<Long> userIds) {
+        long fromId = userIds.get(0);
+        long toId = userIds.get(userIds.size() - 1);
+        long start = System.nanoTime();
+        List<Long> affectedIds = transactionTemplate.execute(status -> grant
+                ? userRoleBulkRepository.grant(role.getId(), userIds)
+                : userRoleBulkRepository.revoke(role.getId(), userIds));
+        int affected = affectedIds == null ? 0 : affectedIds.size();
+        if (affected > 0) {
+            eventPublisher.publishEvent(new UsersChangedEvent(affectedIds));
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Bulk {} of role {}: chunk {} (ids {}-{}) affected {} users in {} ms",
+                action, role.getName(), index, fromId, toId, affected, elapsedMillis);
+        
+        return BulkRoleResponse.ChunkResult.builder()
+                .chunk(index)
+                .fromId(fromId)
+                .toId(toId)
+                .affected(affected)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
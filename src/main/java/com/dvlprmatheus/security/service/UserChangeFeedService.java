@@ -0,0 +1,86 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.ChangeCursorExpiredException;
+import com.dvlprmatheus.security.api.response.UserChangePageResponse;
+import com.dvlprmatheus.security.api.response.UserChangeResponse;
+import com.dvlprmatheus.security.config.changes.UserChangeFeedProperties;
+import com.dvlprmatheus.security.repository.UserChangeRepository;
+import com.dvlprmatheus.security.repository.UserChangeRepository.Position;
+import com.dvlprmatheus.security.repository.UserChangeRepository.UserChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserChangeFeedService {
+    
+    private final UserChangeRepository userChangeRepository;
+    private final UserChangeFeedProperties userChangeFeedProperties;
+    
+    public UserChangePageResponse listChanges(long after, int limit) {
+        log.debug("Listing user changes after cursor {} with limit {}", after, limit);
+        
+        List<UserChange> changes = userChangeRepository.findAfter(resolve(after), limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        
+        List<UserChangeResponse> responses = new ArrayList<>(changes.size());
+        for (UserChange change : changes) {
+            responses.add(toResponse(change));
+        }
+        
+        return UserChangePageResponse.builder()
+                .changes(responses)
+                .nextCursor(changes.isEmpty() ? after : changes.get(changes.size() - 1).seq())
+                .hasMore(hasMore)
+                .build();
+    }
+    
+    public Position resolve(long after) {
+        if (after == 0) {
+            return null;
+        }
+        return userChangeRepository.findPosition(after)
+                .orElseThrow(() -> new ChangeCursorExpiredException(after));
+    }
+    
+    @Scheduled(fixedDelayString = "${user-changes.prune-interval-millis:3600000}",
+            initialDelayString = "${user-changes.prune-interval-millis:3600000}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(userChangeFeedProperties.getRetentionHours());
+        int batchSize = userChangeFeedProperties.getPruneBatchSize();
+        long pruned = 0;
+        try {
+            int deleted;
+            do {
+                deleted = userChangeRepository.deleteChangedBefore(cutoff, batchSize);
+                pruned += deleted;
+            } while (deleted >= batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Failed to prune user changes older than {}: {}", cutoff, e.getMessage());
+        }
+        if (pruned > 0) {
+            log.info("Pruned {} user changes older than {}", pruned, cutoff);
+        }
+    }
+    
+    static UserChangeResponse toResponse(UserChange change) {
+        return UserChangeResponse.builder()
+                .seq(change.seq())
+                .userId(change.userId())
+                .type(change.changeType())
+                .role(change.roleName())
+                .changedAt(change.changedAt())
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.ChangeStreamUnavailableException;
+import com.dvlprmatheus.security.config.changes.UserChangeFeedProperties;
+import com.dvlprmatheus.security.repository.UserChangeRepository;
+import com.dvlprmatheus.security.repository.UserChangeRepository.Position;
+import com.dvlprmatheus.security.repository.UserChangeRepository.UserChange;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserChangeStreamService {
+    
+    static final String EVENT_NAME = "user-change";
+    
+    private static final int MAX_PAGES_PER_POLL = 10;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    
+    private final UserChangeFeedService userChangeFeedService;
+    private final UserChangeRepository userChangeRepository;
+    private final UserChangeFeedProperties userChangeFeedProperties;
+    
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger slots = new AtomicInteger();
+    
+    private volatile boolean running;
+    private volatile Thread thread;
+    
+    private static final class Subscriber {
+        
+        private final SseEmitter emitter;
+        private Position position;
+        private long lastSentNanos;
+        
+        private Subscriber(SseEmitter emitter, Position position, long lastSentNanos) {
+            this.emitter = emitter;
+            this.position = position;
+            this.lastSentNanos = lastSentNanos;
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("user-change-stream")
+                .daemon(true)
+                .start(this::run);
+    }
+    
+    public SseEmitter subscribe(long after) {
+        Position position = userChangeFeedService.resolve(after);
+        if (slots.incrementAndGet() > userChangeFeedProperties.getStreamMaxSubscribers()) {
+            slots.decrementAndGet();
+            throw ChangeStreamUnavailableException.TOO_MANY_SUBSCRIBERS;
+        }
+        
+        SseEmitter emitter = new SseEmitter(userChangeFeedProperties.getStreamTimeoutMillis());
+        long heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(userChangeFeedProperties.getStreamHeartbeatMillis());
+        Subscriber subscriber = new Subscriber(emitter, position, System.nanoTime() - heartbeatNanos);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        log.debug("Change stream subscribed after cursor {} ({} subscribers)", after, slots.get());
+        return emitter;
+    }
+    
+    public int getSubscriberCount() {
+        return slots.get();
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+            current.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        for (Subscriber subscriber : subscribers) {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+    
+    private void run() {
+        while (running) {
+            try {
+                poll(System.nanoTime());
+            } catch (RuntimeException e) {
+                log.warn("Failed to poll user changes for {} subscribers: {}", subscribers.size(), e.getMessage());
+            }
+            try {
+                Thread.sleep(userChangeFeedProperties.getStreamPollIntervalMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    void poll(long now) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<Position, List<Subscriber>> byPosition = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            byPosition.computeIfAbsent(subscriber.position, position -> new ArrayList<>()).add(subscriber);
+        }
+        
+        int batchSize = userChangeFeedProperties.getStreamBatchSize();
+        long heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(userChangeFeedProperties.getStreamHeartbeatMillis());
+        for (Map.Entry<Position, List<Subscriber>> group : byPosition.entrySet()) {
+            Position position = group.getKey();
+            List<Subscriber> members = group.getValue();
+            for (int page = 0; page < MAX_PAGES_PER_POLL && !members.isEmpty(); page++) {
+                List<UserChange> changes = userChangeRepository.findAfter(position, batchSize);
+                if (changes.isEmpty()) {
+                    break;
+                }
+                members.removeIf(subscriber -> !send(subscriber, changes, now));
+                position = changes.get(changes.size() - 1).position();
+                if (changes.size() < batchSize) {
+                    break;
+                }
+            }
+            for (Subscriber subscriber : members) {
+                if (now - subscriber.lastSentNanos >= heartbeatNanos) {
+                    heartbeat(subscriber, now);
+                }
+            }
+        }
+    }
+    
+    private boolean send(Subscriber subscriber, List<UserChange> changes, long now) {
+        Set<DataWithMediaType> events = new LinkedHashSet<>();
+        for (UserChange change : changes) {
+            events.addAll(SseEmitter.event()
+                    .id(Long.toString(change.seq()))
+                    .name(EVENT_NAME)
+                    .data(UserChangeFeedService.toResponse(change), MediaType.APPLICATION_JSON)
+                    .build());
+        }
+        try {
+            subscriber.emitter.send(events);
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+            return false;
+        }
+        subscriber.position = changes.get(changes.size() - 1).position();
+        subscriber.lastSentNanos = now;
+        return true;
+    }
+    
+    private void heartbeat(Subscriber subscriber, long now) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+            subscriber.lastSentNanos = now;
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+        }
+    }
+    
+    private void drop(Subscriber subscriber, Exception e) {
+        log.debug("Dropping change stream subscriber: {}", e.getMessage());
+        remove(subscriber);
+        subscriber.emitter.completeWithError(e);
+    }
+    
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            slots.decrementAndGet();
+        }
+    }
+}
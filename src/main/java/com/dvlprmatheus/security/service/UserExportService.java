@@ -0,0 +1,172 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.config.admin.UserExportProperties;
+import com.dvlprmatheus.security.repository.UserExportRepository;
+import com.dvlprmatheus.security.repository.UserExportRepository.ExportedUser;
+import com.dvlprmatheus.security.utils.JsonEscaper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+public class UserExportService {
+    
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    
+    @Getter
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+    }
+    
+    private final UserExportRepository userExportRepository;
+    private final UserExportProperties userExportProperties;
+    private final TransactionTemplate readOnlyTransaction;
+    
+    public UserExportService(UserExportRepository userExportRepository,
+                             UserExportProperties userExportProperties,
+                             PlatformTransactionManager transactionManager) {
+        this.userExportRepository = userExportRepository;
+        this.userExportProperties = userExportProperties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    public long export(Format format, OutputStream outputStream) {
+        int fetchSize = userExportProperties.getFetchSize();
+        long start = System.nanoTime();
+        long[] rows = {0};
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            if (format == Format.CSV) {
+                writer.write("id,username,email,roles,created_at,last_login_at,login_count\n");
+            }
+            readOnlyTransaction.executeWithoutResult(status -> userExportRepository.forEach(fetchSize, user -> {
+                try {
+                    if (format == Format.CSV) {
+                        writeCsv(writer, user);
+                    } else {
+                        writeNdjson(writer, user);
+                    }
+                    if (++rows[0] % fetchSize == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            writer.flush();
+        } catch (IOException | UncheckedIOException e) {
+            log.info("User export aborted by client after {} rows: {}", rows[0], e.getMessage());
+            return rows[0];
+        }
+        log.info("Exported {} users as {} in {} ms", rows[0], format, (System.nanoTime() - start) / 1_000_000);
+        return rows[0];
+    }
+    
+    static void writeCsv(Writer writer, ExportedUser user) throws IOException {
+        writer.write(Long.toString(user.id()));
+        writer.write(',');
+        writeCsvField(writer, user.username());
+        writer.write(',');
+        writeCsvField(writer, user.email());
+        writer.write(',');
+        writeCsvField(writer, String.join(";", user.roles()));
+        writer.write(',');
+        writer.write(format(user.createdAt()));
+        writer.write(',');
+        writer.write(format(user.lastLoginAt()));
+        writer.write(',');
+        writer.write(Long.toString(user.loginCount()));
+        writer.write('\n');
+    }
+    
+    static void writeNdjson(Writer writer, ExportedUser user) throws IOException {
+        writer.write("{\"id\":");
+        writer.write(Long.toString(user.id()));
+        writer.write(",\"username\":\"");
+        writer.write(JsonEscaper.escape(user.username()));
+        writer.write("\",\"email\":\"");
+        writer.write(JsonEscaper.escape(user.email()));
+        writer.write("\",\"roles\":[");
+        String[] roles = user.roles();
+        for (int i = 0; i < roles.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(JsonEscaper.escape(roles[i]));
+            writer.write('"');
+        }
+        writer.write("],\"createdAt\":");
+        writeJsonTimestamp(writer, user.createdAt());
+        writer.write(",\"lastLoginAt\":");
+        writeJsonTimestamp(writer, user.lastLoginAt());
+        writer.write(",\"loginCount\":");
+        writer.write(Long.toString(user.loginCount()));
+        writer.write("}\n");
+    }
+    
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        boolean formula = first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        boolean quote = formula;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+    
+    private static void writeJsonTimestamp(Writer writer, LocalDateTime timestamp) throws IOException {
+        if (timestamp == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        writer.write(timestamp.toString());
+        writer.write('"');
+    }
+    
+    private static String format(LocalDateTime timestamp) {
+        return timestamp == null ? "" : timestamp.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.response.UserSearchResponse;
+import com.dvlprmatheus.security.config.search.UserSearchProperties;
+import com.dvlprmatheus.security.repository.UserRepository;
+import com.dvlprmatheus.security.repository.projection.UserSearchHit;
+import com.dvlprmatheus.security.service.cache.UserSearchCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSearchService {
+    
+    private static final String[] MATCHED_BY = {"USERNAME_PREFIX", "EMAIL_PREFIX", "SIMILARITY"};
+    
+    private final UserRepository userRepository;
+    private final UserSearchProperties userSearchProperties;
+    private final UserSearchCache userSearchCache;
+    
+    @Transactional(readOnly = true)
+    public UserSearchResponse search(String query, int limit) {
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        UserSearchResponse cached = userSearchCache.get(term, limit);
+        if (cached != null) {
+            log.debug("User search cache hit for '{}'", term);
+            return cached;
+        }
+        
+        Set<Long> seenIds = new HashSet<>();
+        List<UserSearchResponse.Match> matches = new ArrayList<>(limit);
+        if (!term.isEmpty()) {
+            addMatches(userRepository.searchByPrefix(escapeLike(term) + "%", limit), seenIds, matches, limit);
+            if (matches.size() < limit && term.length() >= userSearchProperties.getFuzzyMinLength()) {
+                addMatches(userRepository.searchBySimilarity(term, limit), seenIds, matches, limit);
+            }
+        }
+        
+        UserSearchResponse response = UserSearchResponse.builder()
+                .query(term)
+                .users(List.copyOf(matches))
+                .build();
+        userSearchCache.put(term, limit, response);
+        return response;
+    }
+    
+    private void addMatches(List<UserSearchHit> hits, Set<Long> seenIds, List<UserSearchResponse.Match> matches, int limit) {
+        for (UserSearchHit hit : hits) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            if (seenIds.add(hit.getId())) {
+                matches.add(UserSearchResponse.Match.builder()
+                        .id(hit.getId())
+                        .username(hit.getUsername())
+                        .email(hit.getEmail())
+                        .matchedBy(MATCHED_BY[hit.getMatchRank()])
+                        .score(hit.getScore())
+                        .build());
+            }
+        }
+    }
+    
+    static String escapeLike(String term) {
+        StringBuilder escaped = new StringBuilder(term.length() + 4);
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -1,7 +1,10 @@
 package com.dvlprmatheus.security.service;
 
+import com.dvlprmatheus.security.api.exception.UnknownUserException;
 import com.dvlprmatheus.security.entity.User;
 import com.dvlprmatheus.security.repository.UserRepository;
+import com.dvlprmatheus.security.service.cache.UserCache;
+import com.dvlprmatheus.security.service.jfr.UserLoadEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,17 +18,40 @@ import org.springframework.stereotype.Service;
 public class UserService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final AuthenticationFailureMonitor failureMonitor;
     
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserLoadEvent event = new UserLoadEvent();
+        event.begin();
+        User cached = userCache.get(username);
+        if (cached != null) {
+            log.debug("User loaded from cache: {}", username);
+            commit(event, "cache", true);
+            return cached;
+        }
+        
         log.debug("Loading user by username: {}", username);
+        long generation = userCache.generation();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> {
-                    log.warn("User not found: {}", username);
-                    return new UsernameNotFoundException("User not found: " + username);
+                    commit(event, "database", false);
+                    failureMonitor.record(AuthenticationFailureMonitor.Failure.UNKNOWN_USER, username);
+                    return new UnknownUserException(username);
                 });
+        commit(event, "database", true);
+        userCache.put(user, generation);
         log.debug("User loaded successfully: {}", username);
         return user;
     }
+    
+    private static void commit(UserLoadEvent event, String source, boolean found) {
+        if (event.shouldCommit()) {
+            event.setSource(source);
+            event.setFound(found);
+            event.commit();
+        }
+    }
 }
 
@@ -0,0 +1,164 @@
+package com.dvlprmatheus.security.service.cache;
+
+import com.dvlprmatheus.security.config.cache.UserCacheProperties;
+import com.dvlprmatheus.security.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+    
+    private final UserCacheProperties userCacheProperties;
+    
+    private final ConcurrentHashMap<String, Entry> usersByUsername = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> usernamesById = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    private volatile boolean available;
+    
+    private record Entry(User user, long expiresAt, LongAdder hits) {
+    }
+    
+    public User get(String username) {
+        if (!available) {
+            return null;
+        }
+        String key = key(username);
+        Entry entry = usersByUsername.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() < 0) {
+            remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        entry.hits().increment();
+        return entry.user();
+    }
+    
+    public long generation() {
+        return generation.get();
+    }
+    
+    public void put(User user, long observedGeneration) {
+        if (!available || user.getId() == null) {
+            return;
+        }
+        if (usersByUsername.size() >= userCacheProperties.getMaxSize()) {
+            evictExpired();
+            if (usersByUsername.size() >= userCacheProperties.getMaxSize()) {
+                return;
+            }
+        }
+        long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(userCacheProperties.getTtlSeconds());
+        Entry entry = new Entry(user, expiresAt, new LongAdder());
+        String key = key(user.getUsername());
+        usersByUsername.put(key, entry);
+        usernamesById.put(user.getId(), key);
+        if (generation.get() != observedGeneration) {
+            remove(key, entry);
+        }
+    }
+    
+    public void evictUsername(String username) {
+        generation.incrementAndGet();
+        String key = key(username);
+        Entry entry = usersByUsername.remove(key);
+        if (entry != null) {
+            usernamesById.remove(entry.user().getId(), key);
+        }
+    }
+    
+    public void evictIds(Collection<Long> userIds) {
+        generation.incrementAndGet();
+        for (Long userId : userIds) {
+            String username = usernamesById.remove(userId);
+            if (username != null) {
+                usersByUsername.remove(username);
+            }
+        }
+    }
+    
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        usersByUsername.clear();
+        usernamesById.clear();
+    }
+    
+    public void enable() {
+        invalidateAll();
+        available = true;
+        log.info("User cache enabled");
+    }
+    
+    public void disable() {
+        available = false;
+        invalidateAll();
+        log.warn("User cache disabled and flushed");
+    }
+    
+    public boolean isAvailable() {
+        return available;
+    }
+    
+    public int size() {
+        return usersByUsername.size();
+    }
+    
+    public List<User> hottest(int limit) {
+        long now = System.nanoTime();
+        List<Entry> entries = new ArrayList<>(usersByUsername.size());
+        for (Entry entry : usersByUsername.values()) {
+            if (entry.expiresAt() - now >= 0) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingLong((Entry entry) -> entry.hits().sum()).reversed());
+        return entries.stream().limit(limit).map(Entry::user).toList();
+    }
+    
+    public long getHits() {
+        return hits.sum();
+    }
+    
+    public long getMisses() {
+        return misses.sum();
+    }
+    
+    private void evictExpired() {
+        long now = System.nanoTime();
+        usersByUsername.forEach((username, entry) -> {
+            if (entry.expiresAt() - now < 0) {
+                remove(username, entry);
+            }
+        });
+    }
+    
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+    
+    private void remove(String username, Entry entry) {
+        if (usersByUsername.remove(username, entry)) {
+            usernamesById.remove(entry.user().getId(), username);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.dvlprmatheus.security.service.cache;
+
+import com.dvlprmatheus.security.config.cache.UserCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+    
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long VALIDATION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    
+    private final UserCache userCache;
+    private final UserCacheProperties userCacheProperties;
+    
+    @Value("${spring.datasource.url}")
+    private String url;
+    
+    @Value("${spring.datasource.username}")
+    private String username;
+    
+    @Value("${spring.datasource.password}")
+    private String password;
+    
+    private volatile boolean running;
+    private volatile Thread thread;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        if (!userCacheProperties.getEnabled()) {
+            log.info("User cache is disabled; every lookup goes to the database");
+            return;
+        }
+        if (!userCacheProperties.getChannel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid user cache channel: " + userCacheProperties.getChannel());
+        }
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("user-cache-listener")
+                .daemon(true)
+                .start(this::listen);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+        userCache.disable();
+    }
+    
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + userCacheProperties.getChannel());
+                }
+                userCache.enable();
+                log.info("Listening for user cache invalidations on channel {}", userCacheProperties.getChannel());
+                poll(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("User cache listener connection lost: {}", e.getMessage());
+                }
+            } finally {
+                if (userCache.isAvailable()) {
+                    userCache.disable();
+                }
+            }
+            if (running) {
+                sleep(userCacheProperties.getReconnectDelayMillis());
+            }
+        }
+    }
+    
+    private void poll(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long lastValidation = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    apply(notification.getParameter());
+                }
+            }
+            if (System.nanoTime() - lastValidation > VALIDATION_INTERVAL_NANOS) {
+                if (!connection.isValid(5)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                lastValidation = System.nanoTime();
+            }
+        }
+    }
+    
+    void apply(String payload) {
+        if (payload == null || payload.isEmpty() || UserCacheNotifier.FLUSH_ALL.equals(payload)) {
+            userCache.invalidateAll();
+        } else if (payload.startsWith(UserCacheNotifier.USERNAME_PREFIX)) {
+            userCache.evictUsername(payload.substring(UserCacheNotifier.USERNAME_PREFIX.length()));
+        } else if (payload.startsWith(UserCacheNotifier.IDS_PREFIX)) {
+            List<Long> userIds = new ArrayList<>();
+            try {
+                for (String id : payload.substring(UserCacheNotifier.IDS_PREFIX.length()).split(",")) {
+                    userIds.add(Long.parseLong(id));
+                }
+                userCache.evictIds(userIds);
+            } catch (NumberFormatException e) {
+                log.warn("Malformed user cache invalidation {}; flushing", payload);
+                userCache.invalidateAll();
+            }
+        } else {
+            log.warn("Unknown user cache invalidation {}; flushing", payload);
+            userCache.invalidateAll();
+        }
+    }
+    
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.dvlprmatheus.security.service.cache;
+
+import com.dvlprmatheus.security.config.cache.UserCacheProperties;
+import com.dvlprmatheus.security.service.event.UsersChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheNotifier {
+    
+    static final String FLUSH_ALL = "*";
+    static final String USERNAME_PREFIX = "u:";
+    static final String IDS_PREFIX = "i:";
+    
+    private static final int MAX_PAYLOAD_LENGTH = 7000;
+    private static final int FLUSH_ALL_THRESHOLD = 10000;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCache userCache;
+    private final UserCacheProperties userCacheProperties;
+    
+    @EventListener
+    public void onUsersChanged(UsersChangedEvent event) {
+        publishIds(event.userIds());
+    }
+    
+    public void publishUsername(String username) {
+        userCache.evictUsername(username);
+        send(USERNAME_PREFIX + username);
+    }
+    
+    public void publishIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        if (userIds.size() > FLUSH_ALL_THRESHOLD) {
+            publishFlushAll();
+            return;
+        }
+        userCache.evictIds(userIds);
+        StringBuilder payload = new StringBuilder(IDS_PREFIX);
+        for (Long userId : userIds) {
+            String id = Long.toString(userId);
+            if (payload.length() + id.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                send(payload.toString());
+                payload.setLength(IDS_PREFIX.length());
+            }
+            if (payload.length() > IDS_PREFIX.length()) {
+                payload.append(',');
+            }
+            payload.append(id);
+        }
+        send(payload.toString());
+    }
+    
+    public void publishFlushAll() {
+        userCache.invalidateAll();
+        send(FLUSH_ALL);
+    }
+    
+    private void send(String payload) {
+        if (!userCacheProperties.getEnabled()) {
+            return;
+        }
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", userCacheProperties.getChannel(), payload);
+        } catch (DataAccessException e) {
+            log.error("Failed to publish user cache invalidation {}: {}", payload, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.dvlprmatheus.security.service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+@Slf4j
+public final class UserCacheSnapshot {
+    
+    static final int MAGIC = 0x55435753;
+    static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 4 + 8;
+    private static final int TRAILER_BYTES = 8;
+    
+    public record Entry(String username, long version, List<String> roles) {
+    }
+    
+    public record Contents(long writtenAt, List<Entry> entries) {
+    }
+    
+    private UserCacheSnapshot() {
+    }
+    
+    public static void write(Path path, List<Entry> entries, long writtenAt) throws IOException {
+        List<byte[]> usernames = new ArrayList<>(entries.size());
+        List<List<byte[]>> roles = new ArrayList<>(entries.size());
+        long size = HEADER_BYTES + TRAILER_BYTES;
+        for (Entry entry : entries) {
+            byte[] username = entry.username().getBytes(StandardCharsets.UTF_8);
+            List<byte[]> entryRoles = new ArrayList<>(entry.roles().size());
+            size += 2 + username.length + 8 + 1;
+            for (String role : entry.roles().subList(0, Math.min(entry.roles().size(), 255))) {
+                byte[] encoded = role.getBytes(StandardCharsets.UTF_8);
+                entryRoles.add(encoded);
+                size += 1 + encoded.length;
+            }
+            usernames.add(username);
+            roles.add(entryRoles);
+        }
+        
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC).putShort(FORMAT_VERSION).putInt(entries.size()).putLong(writtenAt);
+                for (int i = 0; i < entries.size(); i++) {
+                    buffer.putShort((short) usernames.get(i).length).put(usernames.get(i));
+                    buffer.putLong(entries.get(i).version());
+                    buffer.put((byte) roles.get(i).size());
+                    for (byte[] role : roles.get(i)) {
+                        buffer.put((byte) role.length).put(role);
+                    }
+                }
+                buffer.putLong(checksum(buffer, HEADER_BYTES, buffer.position()));
+                buffer.force();
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    public static Optional<Contents> read(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                return discard(path, "unexpected size " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                return discard(path, "not a user cache snapshot");
+            }
+            short formatVersion = buffer.getShort();
+            if (formatVersion != FORMAT_VERSION) {
+                return discard(path, "format version " + formatVersion + ", expected " + FORMAT_VERSION);
+            }
+            int count = buffer.getInt();
+            long writtenAt = buffer.getLong();
+            int bodyEnd = (int) size - TRAILER_BYTES;
+            if (count < 0 || buffer.getLong(bodyEnd) != checksum(buffer, HEADER_BYTES, bodyEnd)) {
+                return discard(path, "checksum mismatch");
+            }
+            
+            List<Entry> entries = new ArrayList<>(Math.min(count, bodyEnd / 11));
+            for (int i = 0; i < count; i++) {
+                String username = string(buffer, Short.toUnsignedInt(buffer.getShort()));
+                long version = buffer.getLong();
+                int roleCount = Byte.toUnsignedInt(buffer.get());
+                List<String> roles = new ArrayList<>(roleCount);
+                for (int r = 0; r < roleCount; r++) {
+                    roles.add(string(buffer, Byte.toUnsignedInt(buffer.get())));
+                }
+                entries.add(new Entry(username, version, roles));
+            }
+            if (buffer.position() != bodyEnd) {
+                return discard(path, "trailing data");
+            }
+            return Optional.of(new Contents(writtenAt, entries));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            return discard(path, e.toString());
+        }
+    }
+    
+    private static String string(MappedByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private static long checksum(MappedByteBuffer buffer, int from, int to) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(from, to - from));
+        return crc.getValue();
+    }
+    
+    private static Optional<Contents> discard(Path path, String reason) {
+        log.warn("Discarding user cache snapshot {}: {}", path, reason);
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete user cache snapshot {}: {}", path, e.getMessage());
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,142 @@
+package com.dvlprmatheus.security.service.cache;
+
+import com.dvlprmatheus.security.config.cache.CacheSnapshotProperties;
+import com.dvlprmatheus.security.entity.Role;
+import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheWarmer implements SmartInitializingSingleton {
+    
+    private final UserCache userCache;
+    private final UserCacheInvalidationListener invalidationListener;
+    private final UserRepository userRepository;
+    private final CacheSnapshotProperties cacheSnapshotProperties;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!cacheSnapshotProperties.getEnabled()) {
+            return;
+        }
+        Path path = Path.of(cacheSnapshotProperties.getPath());
+        Optional<UserCacheSnapshot.Contents> snapshot = UserCacheSnapshot.read(path);
+        if (snapshot.isEmpty()) {
+            log.info("No usable user cache snapshot at {}; starting cold", path);
+            return;
+        }
+        long ageMillis = System.currentTimeMillis() - snapshot.get().writtenAt();
+        if (ageMillis > TimeUnit.SECONDS.toMillis(cacheSnapshotProperties.getMaxAgeSeconds())) {
+            log.info("User cache snapshot at {} is {} s old; starting cold", path, ageMillis / 1000);
+            return;
+        }
+        
+        invalidationListener.start();
+        if (!awaitCacheAvailable()) {
+            log.warn("User cache did not become available within {} ms; skipping warm-up",
+                    cacheSnapshotProperties.getWarmUpTimeoutMillis());
+            return;
+        }
+        warmUp(snapshot.get().entries());
+    }
+    
+    void warmUp(List<UserCacheSnapshot.Entry> entries) {
+        long start = System.nanoTime();
+        int loaded = 0;
+        int stale = 0;
+        int chunkSize = cacheSnapshotProperties.getLoadChunkSize();
+        for (int i = 0; i < entries.size(); i += chunkSize) {
+            Map<String, UserCacheSnapshot.Entry> chunk = new HashMap<>();
+            for (UserCacheSnapshot.Entry entry : entries.subList(i, Math.min(i + chunkSize, entries.size()))) {
+                chunk.put(entry.username(), entry);
+            }
+            long generation = userCache.generation();
+            for (User user : userRepository.findAllWithRolesByUsernameKeyIn(
+                    chunk.keySet().stream().map(username -> username.toLowerCase(Locale.ROOT)).toList())) {
+                UserCacheSnapshot.Entry entry = chunk.get(user.getUsername());
+                if (entry != null && entry.version() == version(user) && entry.roles().equals(roleNames(user))) {
+                    userCache.put(user, generation);
+                    loaded++;
+                } else {
+                    stale++;
+                }
+            }
+        }
+        log.info("User cache warmed up with {} of {} snapshot entries ({} stale) in {} ms",
+                loaded, entries.size(), stale, (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    @Scheduled(fixedDelayString = "${cache-snapshot.interval-millis:300000}",
+            initialDelayString = "${cache-snapshot.interval-millis:300000}")
+    public void writeSnapshot() {
+        if (!cacheSnapshotProperties.getEnabled() || !userCache.isAvailable()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<User> hottest = userCache.hottest(cacheSnapshotProperties.getMaxEntries());
+        List<UserCacheSnapshot.Entry> entries = new ArrayList<>(hottest.size());
+        for (User user : hottest) {
+            entries.add(new UserCacheSnapshot.Entry(user.getUsername(), version(user), roleNames(user)));
+        }
+        Path path = Path.of(cacheSnapshotProperties.getPath());
+        try {
+            UserCacheSnapshot.write(path, entries, System.currentTimeMillis());
+            log.info("Wrote user cache snapshot with {} entries to {} in {} ms",
+                    entries.size(), path, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("Failed to write user cache snapshot to {}: {}", path, e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        writeSnapshot();
+    }
+    
+    private boolean awaitCacheAvailable() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(cacheSnapshotProperties.getWarmUpTimeoutMillis());
+        while (!userCache.isAvailable()) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    static long version(User user) {
+        LocalDateTime updatedAt = user.getUpdatedAt();
+        if (updatedAt == null) {
+            return Long.MIN_VALUE;
+        }
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+    }
+    
+    static List<String> roleNames(User user) {
+        return user.getRoles().stream().map(Role::getName).sorted().toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.dvlprmatheus.security.service.cache;
+
+import com.dvlprmatheus.security.api.response.UserSearchResponse;
+import com.dvlprmatheus.security.config.search.UserSearchProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class UserSearchCache {
+    
+    private final UserSearchProperties userSearchProperties;
+    
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > userSearchProperties.getCacheMaxEntries();
+        }
+    };
+    
+    private record Key(String term, int limit) {
+    }
+    
+    private record Entry(UserSearchResponse response, long expiresAt) {
+    }
+    
+    public synchronized UserSearchResponse get(String term, int limit) {
+        Key key = new Key(term, limit);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() < 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.response();
+    }
+    
+    public synchronized void put(String term, int limit, UserSearchResponse response) {
+        long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(userSearchProperties.getCacheTtlSeconds());
+        entries.put(new Key(term, limit), new Entry(response, expiresAt));
+    }
+    
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,6 @@
+package com.dvlprmatheus.security.service.event;
+
+import java.util.Collection;
+
+public record UsersChangedEvent(Collection<Long> userIds) {
+}
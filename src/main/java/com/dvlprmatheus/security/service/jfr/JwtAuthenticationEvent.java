@@ -0,0 +1,42 @@
+package com.dvlprmatheus.security.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+@Setter
+@Name("com.dvlprmatheus.security.JwtAuthentication")
+@Label("JWT Authentication")
+@Description("Bearer token handling in JwtAuthenticationFilter")
+@Category({"Security API", "Authentication"})
+@StackTrace(false)
+@Enabled(false)
+public class JwtAuthenticationEvent extends Event {
+    
+    @Label("Principal Type")
+    @Description("user or client")
+    private String principalType;
+    
+    @Label("Outcome")
+    @Description("authenticated, invalid_token or unknown_client")
+    private String outcome;
+    
+    @Label("Verify Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long verifyDuration;
+    
+    @Label("User Load Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long userLoadDuration;
+    
+    @Label("Context Duration")
+    @Description("Time spent validating claims against the principal and setting the security context")
+    @Timespan(Timespan.NANOSECONDS)
+    private long contextDuration;
+}
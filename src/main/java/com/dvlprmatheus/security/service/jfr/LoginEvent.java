@@ -0,0 +1,34 @@
+package com.dvlprmatheus.security.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+@Setter
+@Name("com.dvlprmatheus.security.Login")
+@Label("Login")
+@Description("AuthenticationService.login")
+@Category({"Security API", "Authentication"})
+@StackTrace(false)
+@Enabled(false)
+public class LoginEvent extends Event {
+    
+    @Label("Outcome")
+    @Description("success, bad_credentials, unknown_user, locked or failed")
+    private String outcome;
+    
+    @Label("Authenticate Duration")
+    @Description("User load plus password check inside the AuthenticationManager")
+    @Timespan(Timespan.NANOSECONDS)
+    private long authenticateDuration;
+    
+    @Label("Token Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long tokenDuration;
+}
@@ -0,0 +1,27 @@
+package com.dvlprmatheus.security.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Setter
+@Name("com.dvlprmatheus.security.PasswordHash")
+@Label("Password Hash")
+@Description("PasswordEncoder encode or matches call")
+@Category({"Security API", "Authentication"})
+@StackTrace(false)
+@Enabled(false)
+public class PasswordHashEvent extends Event {
+    
+    @Label("Operation")
+    @Description("encode or matches")
+    private String operation;
+    
+    @Label("Matched")
+    private boolean matched;
+}
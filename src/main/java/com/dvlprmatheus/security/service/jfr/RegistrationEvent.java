@@ -0,0 +1,38 @@
+package com.dvlprmatheus.security.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+@Setter
+@Name("com.dvlprmatheus.security.Registration")
+@Label("Registration")
+@Description("AuthenticationService.register")
+@Category({"Security API", "Authentication"})
+@StackTrace(false)
+@Enabled(false)
+public class RegistrationEvent extends Event {
+    
+    @Label("Outcome")
+    @Description("created, username_taken, email_taken or failed")
+    private String outcome;
+    
+    @Label("Batched")
+    @Description("Whether the insert went through the group-commit batcher")
+    private boolean batched;
+    
+    @Label("Hash Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long hashDuration;
+    
+    @Label("Database Duration")
+    @Description("Availability checks plus the insert, including time queued for a batch")
+    @Timespan(Timespan.NANOSECONDS)
+    private long databaseDuration;
+}
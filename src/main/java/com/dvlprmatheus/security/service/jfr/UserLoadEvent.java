@@ -0,0 +1,27 @@
+package com.dvlprmatheus.security.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Setter
+@Name("com.dvlprmatheus.security.UserLoad")
+@Label("User Load")
+@Description("UserService.loadUserByUsername")
+@Category({"Security API", "Authentication"})
+@StackTrace(false)
+@Enabled(false)
+public class UserLoadEvent extends Event {
+    
+    @Label("Source")
+    @Description("cache or database")
+    private String source;
+    
+    @Label("Found")
+    private boolean found;
+}
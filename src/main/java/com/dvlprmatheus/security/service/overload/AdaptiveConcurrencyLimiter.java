@@ -0,0 +1,163 @@
+package com.dvlprmatheus.security.service.overload;
+
+import com.dvlprmatheus.security.config.overload.ConcurrencyLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LONG_RTT_WEIGHT = 0.02;
+
+    public enum Priority {
+        READ,
+        DEFAULT,
+        LOGIN
+    }
+
+    private final ConcurrencyLimitProperties properties;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder rttNanos = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    private volatile int limit;
+    private volatile boolean ready = true;
+
+    private double estimatedLimit;
+    private double longRtt;
+    private long saturatedSince;
+    private long clearSince;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+    }
+
+    public boolean tryAcquire(Priority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                shed.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                admitted.increment();
+                return true;
+            }
+        }
+    }
+
+    public void release(long elapsedNanos, boolean dropped) {
+        inFlight.decrementAndGet();
+        if (dropped) {
+            drops.increment();
+        } else {
+            rttNanos.add(elapsedNanos);
+            samples.increment();
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Scheduled(fixedDelayString = "${concurrency-limit.update-interval-millis:100}")
+    public void update() {
+        update(System.currentTimeMillis());
+    }
+
+    synchronized void update(long now) {
+        long count = samples.sumThenReset();
+        long totalRtt = rttNanos.sumThenReset();
+        long dropCount = drops.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        updateLimit(count, totalRtt, dropCount, peak);
+        updateReadiness(admitted.sumThenReset(), shed.sumThenReset(), now);
+    }
+
+    private void updateLimit(long count, long totalRtt, long dropCount, int peak) {
+        double next;
+        if (dropCount > 0) {
+            next = estimatedLimit * properties.getBackoffRatio();
+        } else if (count >= properties.getMinSamples()) {
+            double shortRtt = (double) totalRtt / count;
+            longRtt = longRtt == 0 ? shortRtt : longRtt * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+            if (longRtt > shortRtt * 2) {
+                longRtt *= 0.95;
+            }
+            if (peak < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, properties.getTolerance() * longRtt / shortRtt));
+            double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            next = estimatedLimit * (1 - properties.getSmoothing()) + target * properties.getSmoothing();
+        } else {
+            return;
+        }
+
+        estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), next));
+        int rounded = (int) estimatedLimit;
+        if (rounded != limit) {
+            log.debug("Concurrency limit changed from {} to {} (drops={}, samples={}, peak={})",
+                    limit, rounded, dropCount, count, peak);
+            limit = rounded;
+        }
+    }
+
+    private void updateReadiness(long admittedCount, long shedCount, long now) {
+        boolean saturated = shedCount > 0 && shedCount >= (admittedCount + shedCount) * properties.getShedRatio();
+        if (saturated) {
+            clearSince = 0;
+            if (saturatedSince == 0) {
+                saturatedSince = now;
+            }
+            if (ready && now - saturatedSince >= properties.getNotReadyAfterMillis()) {
+                ready = false;
+                log.warn("Shedding load for {} ms at concurrency limit {}, reporting not ready", now - saturatedSince, limit);
+            }
+        } else {
+            saturatedSince = 0;
+            if (clearSince == 0) {
+                clearSince = now;
+            }
+            if (!ready && now - clearSince >= properties.getReadyAfterMillis()) {
+                ready = true;
+                log.info("Load shedding stopped, reporting ready again at concurrency limit {}", limit);
+            }
+        }
+    }
+
+    private int allowed(Priority priority) {
+        int current = limit;
+        return switch (priority) {
+            case READ -> current;
+            case DEFAULT -> Math.max(1, (int) (current * properties.getDefaultShare()));
+            case LOGIN -> Math.max(1, (int) (current * properties.getLoginShare()));
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package com.dvlprmatheus.security.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public final class BreachedHashCorpus {
+    
+    static final int MAGIC = 0x42484331;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int PREFIX_BYTES = 2;
+    static final int BUCKETS = 1 << (PREFIX_BYTES * 8);
+    static final int INDEX_BYTES = (BUCKETS + 1) * Long.BYTES;
+    
+    private static final long DEFAULT_CHUNK_BYTES = 1L << 30;
+    private static final ThreadLocal<MessageDigest> SHA_1 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    });
+    
+    public enum Algorithm {
+        SHA1(1, 20),
+        NTLM(2, 16);
+        
+        private final int id;
+        private final int hashLength;
+        
+        Algorithm(int id, int hashLength) {
+            this.id = id;
+            this.hashLength = hashLength;
+        }
+        
+        public int id() {
+            return id;
+        }
+        
+        public int hashLength() {
+            return hashLength;
+        }
+        
+        public byte[] hash(String password) {
+            return switch (this) {
+                case SHA1 -> SHA_1.get().digest(password.getBytes(StandardCharsets.UTF_8));
+                case NTLM -> Md4.digest(password.getBytes(StandardCharsets.UTF_16LE));
+            };
+        }
+        
+        static Algorithm of(int id) {
+            for (Algorithm algorithm : values()) {
+                if (algorithm.id == id) {
+                    return algorithm;
+                }
+            }
+            throw new IllegalArgumentException("Unknown hash algorithm id " + id);
+        }
+    }
+    
+    private final Algorithm algorithm;
+    private final int recordLength;
+    private final long recordCount;
+    private final long[] bucketStarts;
+    private final MappedByteBuffer[] chunks;
+    private final int recordsPerChunk;
+    
+    private BreachedHashCorpus(Algorithm algorithm, long recordCount, long[] bucketStarts,
+                               MappedByteBuffer[] chunks, int recordsPerChunk) {
+        this.algorithm = algorithm;
+        this.recordLength = algorithm.hashLength() - PREFIX_BYTES;
+        this.recordCount = recordCount;
+        this.bucketStarts = bucketStarts;
+        this.chunks = chunks;
+        this.recordsPerChunk = recordsPerChunk;
+    }
+    
+    public static BreachedHashCorpus open(Path path) throws IOException {
+        return open(path, DEFAULT_CHUNK_BYTES);
+    }
+    
+    static BreachedHashCorpus open(Path path, long chunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            int read;
+            do {
+                read = channel.read(header, header.position());
+            } while (read > 0 && header.hasRemaining());
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IllegalArgumentException(path + " is not a breached hash corpus");
+            }
+            short version = header.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported breached hash corpus version " + version);
+            }
+            Algorithm algorithm = Algorithm.of(header.get());
+            if (header.get() != algorithm.hashLength()) {
+                throw new IllegalArgumentException("Hash length does not match algorithm " + algorithm);
+            }
+            long recordCount = header.getLong();
+            int recordLength = algorithm.hashLength() - PREFIX_BYTES;
+            long dataStart = HEADER_BYTES + INDEX_BYTES;
+            if (channel.size() != dataStart + recordCount * recordLength) {
+                throw new IllegalArgumentException(path + " is truncated or has trailing data");
+            }
+            
+            long[] bucketStarts = new long[BUCKETS + 1];
+            channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, INDEX_BYTES).asLongBuffer().get(bucketStarts);
+            if (bucketStarts[0] != 0 || bucketStarts[BUCKETS] != recordCount) {
+                throw new IllegalArgumentException(path + " has an inconsistent prefix index");
+            }
+            
+            int recordsPerChunk = (int) Math.max(1, Math.min(Integer.MAX_VALUE / recordLength, chunkBytes / recordLength));
+            int chunkCount = (int) ((recordCount + recordsPerChunk - 1) / recordsPerChunk);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long firstRecord = (long) i * recordsPerChunk;
+                long records = Math.min(recordsPerChunk, recordCount - firstRecord);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, dataStart + firstRecord * recordLength, records * recordLength);
+            }
+            return new BreachedHashCorpus(algorithm, recordCount, bucketStarts, chunks, recordsPerChunk);
+        }
+    }
+    
+    public Algorithm algorithm() {
+        return algorithm;
+    }
+    
+    public long size() {
+        return recordCount;
+    }
+    
+    public boolean containsPassword(String password) {
+        return contains(algorithm.hash(password));
+    }
+    
+    public boolean contains(byte[] hash) {
+        if (hash.length != algorithm.hashLength()) {
+            throw new IllegalArgumentException("Expected a " + algorithm.hashLength() + " byte " + algorithm + " hash");
+        }
+        int bucket = (hash[0] & 0xff) << 8 | (hash[1] & 0xff);
+        long low = bucketStarts[bucket];
+        long high = bucketStarts[bucket + 1] - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int comparison = compare(middle, hash);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private int compare(long record, byte[] hash) {
+        MappedByteBuffer chunk = chunks[(int) (record / recordsPerChunk)];
+        int position = (int) (record % recordsPerChunk) * recordLength;
+        for (int i = 0; i < recordLength; i++) {
+            int stored = chunk.get(position + i) & 0xff;
+            int wanted = hash[PREFIX_BYTES + i] & 0xff;
+            if (stored != wanted) {
+                return stored - wanted;
+            }
+        }
+        return 0;
+    }
+}
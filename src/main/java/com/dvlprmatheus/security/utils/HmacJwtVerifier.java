@@ -0,0 +1,465 @@
+package com.dvlprmatheus.security.utils;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+public class HmacJwtVerifier {
+
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private static final byte[] ALG = ascii("alg");
+    private static final byte[] TYP = ascii("typ");
+    private static final byte[] JWT = ascii("JWT");
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] IAT = ascii("iat");
+    private static final byte[] NBF = ascii("nbf");
+    private static final byte[] SCOPE = ascii("scope");
+
+    private final SecretKey secretKey;
+    private final byte[] algorithm;
+    private final int signatureLength;
+    private final ThreadLocal<State> state;
+
+    public record VerifiedToken(String subject, long issuedAt, long expiresAt, String scope) {
+    }
+
+    public static final VerifiedToken REJECTED = new VerifiedToken("", -1, -1, null);
+
+    public HmacJwtVerifier(SecretKey secretKey) {
+        this.secretKey = secretKey;
+        this.algorithm = ascii(switch (secretKey.getAlgorithm()) {
+            case "HmacSHA256" -> "HS256";
+            case "HmacSHA384" -> "HS384";
+            case "HmacSHA512" -> "HS512";
+            default -> throw new IllegalArgumentException("Unsupported key algorithm: " + secretKey.getAlgorithm());
+        });
+        this.signatureLength = newMac().getMacLength();
+        this.state = ThreadLocal.withInitial(() -> new State(newMac(), signatureLength));
+    }
+
+    public VerifiedToken verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        State current = state.get();
+        if (token == current.lastToken) {
+            return current.lastResult;
+        }
+        VerifiedToken result = doVerify(token, current);
+        current.lastToken = token;
+        current.lastResult = result;
+        return result;
+    }
+
+    private VerifiedToken doVerify(String token, State current) {
+        int length = token.length();
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0 || firstDot == 0 || secondDot == firstDot + 1) {
+            return null;
+        }
+
+        byte[] input = current.input(length);
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            input[i] = (byte) c;
+        }
+
+        int headerLength = decodedLength(firstDot);
+        if (headerLength < 0) {
+            return null;
+        }
+        byte[] json = current.json(headerLength);
+        if (decode(input, 0, firstDot, json) != headerLength || !checkHeader(current.scanner.reset(json, headerLength))) {
+            return null;
+        }
+
+        int signatureChars = length - secondDot - 1;
+        if (decodedLength(signatureChars) != signatureLength
+                || decode(input, secondDot + 1, signatureChars, current.signature) != signatureLength) {
+            return null;
+        }
+        Mac mac = current.mac;
+        mac.update(input, 0, secondDot);
+        try {
+            mac.doFinal(current.expected, 0);
+        } catch (GeneralSecurityException e) {
+            mac.reset();
+            return null;
+        }
+        int diff = 0;
+        for (int i = 0; i < signatureLength; i++) {
+            diff |= current.expected[i] ^ current.signature[i];
+        }
+        if (diff != 0) {
+            return REJECTED;
+        }
+
+        int payloadChars = secondDot - firstDot - 1;
+        int payloadLength = decodedLength(payloadChars);
+        if (payloadLength < 0) {
+            return null;
+        }
+        json = current.json(payloadLength);
+        if (decode(input, firstDot + 1, payloadChars, json) != payloadLength) {
+            return null;
+        }
+        return readClaims(current.scanner.reset(json, payloadLength), json);
+    }
+
+    private boolean checkHeader(Scanner scanner) {
+        if (!scanner.objectStart()) {
+            return false;
+        }
+        boolean algSeen = false;
+        boolean typSeen = false;
+        boolean first = true;
+        while (!scanner.objectEnd(first)) {
+            first = false;
+            int keyStart = scanner.stringStart();
+            if (keyStart < 0) {
+                return false;
+            }
+            int keyEnd = scanner.stringEnd();
+            if (keyEnd < 0 || !scanner.colon()) {
+                return false;
+            }
+            if (!algSeen && scanner.matches(keyStart, keyEnd, ALG)) {
+                algSeen = true;
+                int valueStart = scanner.stringStart();
+                int valueEnd = valueStart < 0 ? -1 : scanner.stringEnd();
+                if (valueEnd < 0 || !scanner.matches(valueStart, valueEnd, algorithm)) {
+                    return false;
+                }
+            } else if (!typSeen && scanner.matches(keyStart, keyEnd, TYP)) {
+                typSeen = true;
+                int valueStart = scanner.stringStart();
+                int valueEnd = valueStart < 0 ? -1 : scanner.stringEnd();
+                if (valueEnd < 0 || !scanner.matches(valueStart, valueEnd, JWT)) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return algSeen && scanner.atEnd();
+    }
+
+    private VerifiedToken readClaims(Scanner scanner, byte[] json) {
+        if (!scanner.objectStart()) {
+            return null;
+        }
+        String subject = null;
+        String scope = null;
+        long issuedAt = -1;
+        long expiresAt = -1;
+        boolean first = true;
+        while (!scanner.objectEnd(first)) {
+            first = false;
+            int keyStart = scanner.stringStart();
+            if (keyStart < 0) {
+                return null;
+            }
+            int keyEnd = scanner.stringEnd();
+            if (keyEnd < 0 || !scanner.colon()) {
+                return null;
+            }
+            if (scanner.matches(keyStart, keyEnd, SUB)) {
+                int valueStart = scanner.stringStart();
+                int valueEnd = valueStart < 0 ? -1 : scanner.stringEnd();
+                if (subject != null || valueEnd < 0) {
+                    return null;
+                }
+                subject = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+            } else if (scanner.matches(keyStart, keyEnd, SCOPE)) {
+                int valueStart = scanner.stringStart();
+                int valueEnd = valueStart < 0 ? -1 : scanner.stringEnd();
+                if (scope != null || valueEnd < 0) {
+                    return null;
+                }
+                scope = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+            } else if (scanner.matches(keyStart, keyEnd, EXP)) {
+                long seconds = scanner.number();
+                if (expiresAt >= 0 || seconds < 0) {
+                    return null;
+                }
+                expiresAt = seconds * 1000;
+            } else if (scanner.matches(keyStart, keyEnd, IAT)) {
+                long seconds = scanner.number();
+                if (issuedAt >= 0 || seconds < 0) {
+                    return null;
+                }
+                issuedAt = seconds * 1000;
+            } else if (scanner.matches(keyStart, keyEnd, NBF) || !scanner.skipScalar()) {
+                return null;
+            }
+        }
+        if (!scanner.atEnd() || subject == null || subject.isEmpty() || expiresAt < 0) {
+            return null;
+        }
+        return new VerifiedToken(subject, issuedAt, expiresAt, scope);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(secretKey.getAlgorithm());
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialise " + secretKey.getAlgorithm(), e);
+        }
+    }
+
+    private static int decodedLength(int chars) {
+        int remainder = chars & 3;
+        if (remainder == 1) {
+            return -1;
+        }
+        return (chars >> 2) * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    private static int decode(byte[] source, int offset, int chars, byte[] target) {
+        int out = 0;
+        int end = offset + chars;
+        int i = offset;
+        while (end - i >= 4) {
+            int b0 = DECODE[source[i]];
+            int b1 = DECODE[source[i + 1]];
+            int b2 = DECODE[source[i + 2]];
+            int b3 = DECODE[source[i + 3]];
+            if ((b0 | b1 | b2 | b3) < 0) {
+                return -1;
+            }
+            int bits = b0 << 18 | b1 << 12 | b2 << 6 | b3;
+            target[out++] = (byte) (bits >> 16);
+            target[out++] = (byte) (bits >> 8);
+            target[out++] = (byte) bits;
+            i += 4;
+        }
+        int remaining = end - i;
+        if (remaining == 2) {
+            int b0 = DECODE[source[i]];
+            int b1 = DECODE[source[i + 1]];
+            if ((b0 | b1) < 0 || (b1 & 0x0F) != 0) {
+                return -1;
+            }
+            target[out++] = (byte) (b0 << 2 | b1 >> 4);
+        } else if (remaining == 3) {
+            int b0 = DECODE[source[i]];
+            int b1 = DECODE[source[i + 1]];
+            int b2 = DECODE[source[i + 2]];
+            if ((b0 | b1 | b2) < 0 || (b2 & 0x03) != 0) {
+                return -1;
+            }
+            int bits = b0 << 12 | b1 << 6 | b2;
+            target[out++] = (byte) (bits >> 10);
+            target[out++] = (byte) (bits >> 2);
+        }
+        return out;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class State {
+
+        private final Mac mac;
+        private final byte[] signature;
+        private final byte[] expected;
+        private final Scanner scanner = new Scanner();
+        private byte[] input = new byte[512];
+        private byte[] json = new byte[384];
+        private String lastToken;
+        private VerifiedToken lastResult;
+
+        private State(Mac mac, int signatureLength) {
+            this.mac = mac;
+            this.signature = new byte[signatureLength];
+            this.expected = new byte[signatureLength];
+        }
+
+        private byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[length];
+            }
+            return input;
+        }
+
+        private byte[] json(int length) {
+            if (json.length < length) {
+                json = new byte[length];
+            }
+            return json;
+        }
+    }
+
+    private static final class Scanner {
+
+        private byte[] json;
+        private int length;
+        private int position;
+
+        private Scanner reset(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+            this.position = 0;
+            return this;
+        }
+
+        private void skipWhitespace() {
+            while (position < length) {
+                byte b = json[position];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        private boolean objectStart() {
+            skipWhitespace();
+            if (position < length && json[position] == '{') {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean objectEnd(boolean first) {
+            skipWhitespace();
+            if (position >= length) {
+                position = -1;
+                return true;
+            }
+            if (json[position] == '}') {
+                position++;
+                return true;
+            }
+            if (!first) {
+                if (json[position] != ',') {
+                    position = -1;
+                    return true;
+                }
+                position++;
+            }
+            return false;
+        }
+
+        private boolean atEnd() {
+            if (position < 0) {
+                return false;
+            }
+            skipWhitespace();
+            return position == length;
+        }
+
+        private boolean colon() {
+            skipWhitespace();
+            if (position < length && json[position] == ':') {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private int stringStart() {
+            skipWhitespace();
+            if (position < length && json[position] == '"') {
+                return ++position;
+            }
+            return -1;
+        }
+
+        private int stringEnd() {
+            while (position < length) {
+                byte b = json[position];
+                if (b == '"') {
+                    return position++;
+                }
+                if (b == '\\' || b < 0x20) {
+                    return -1;
+                }
+                position++;
+            }
+            return -1;
+        }
+
+        private boolean matches(int start, int end, byte[] expected) {
+            if (end - start != expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (json[start + i] != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long number() {
+            skipWhitespace();
+            int start = position;
+            long value = 0;
+            while (position < length && json[position] >= '0' && json[position] <= '9') {
+                value = value * 10 + (json[position] - '0');
+                position++;
+            }
+            int digits = position - start;
+            if (digits == 0 || digits > 15 || (digits > 1 && json[start] == '0')) {
+                return -1;
+            }
+            if (position < length && (json[position] == '.' || json[position] == 'e' || json[position] == 'E')) {
+                return -1;
+            }
+            return value;
+        }
+
+        private boolean skipScalar() {
+            skipWhitespace();
+            if (position >= length) {
+                return false;
+            }
+            byte b = json[position];
+            if (b == '"') {
+                position++;
+                return stringEnd() >= 0;
+            }
+            if (b == '-' || (b >= '0' && b <= '9')) {
+                if (b == '-') {
+                    position++;
+                }
+                return number() >= 0;
+            }
+            return literal("true") || literal("false") || literal("null");
+        }
+
+        private boolean literal(String word) {
+            if (position + word.length() > length) {
+                return false;
+            }
+            for (int i = 0; i < word.length(); i++) {
+                if (json[position + i] != word.charAt(i)) {
+                    return false;
+                }
+            }
+            position += word.length();
+            return true;
+        }
+    }
+}
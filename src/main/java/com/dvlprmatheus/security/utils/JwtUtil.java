@@ -1,5 +1,6 @@
 package com.dvlprmatheus.security.utils;
 
+import com.dvlprmatheus.security.api.exception.InvalidTokenException;
 import com.dvlprmatheus.security.config.jwt.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -21,10 +22,14 @@ public class JwtUtil {
     
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
+    private final HmacJwtVerifier fastVerifier;
     
     public JwtUtil(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.fastVerifier = Boolean.TRUE.equals(jwtProperties.getFastVerifierEnabled())
+                ? new HmacJwtVerifier(secretKey)
+                : null;
     }
     
     public String generateToken(UserDetails userDetails) {
@@ -35,9 +40,20 @@ public class JwtUtil {
         return token;
     }
     
+    public String generateClientToken(String clientId, String scope, long ttlMillis) {
+        log.debug("Generating client token for service client: {}", clientId);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("scope", scope);
+        return createToken(claims, clientId, ttlMillis);
+    }
+    
     private String createToken(Map<String, Object> claims, String subject) {
+        return createToken(claims, subject, jwtProperties.getExpiration());
+    }
+    
+    private String createToken(Map<String, Object> claims, String subject, long ttlMillis) {
         Date now = new Date();
-        Date expirationDate = new Date(now.getTime() + jwtProperties.getExpiration());
+        Date expirationDate = new Date(now.getTime() + ttlMillis);
         
         return Jwts.builder()
                 .claims(claims)
@@ -48,19 +64,46 @@ public class JwtUtil {
                 .compact();
     }
     
+    public HmacJwtVerifier.VerifiedToken parseToken(String token) {
+        HmacJwtVerifier.VerifiedToken verified = verifyFast(token);
+        if (verified != null) {
+            return verified;
+        }
+        Claims claims = extractAllClaims(token);
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        return new HmacJwtVerifier.VerifiedToken(
+                claims.getSubject(),
+                issuedAt == null ? 0 : issuedAt.getTime(),
+                expiration == null ? 0 : expiration.getTime(),
+                claims.get("scope", String.class));
+    }
+    
     public String extractUsername(String token) {
         try {
-            String username = extractClaim(token, Claims::getSubject);
+            String username = parseToken(token).subject();
             log.debug("Extracted username from token: {}", username);
             return username;
         } catch (Exception e) {
-            log.error("Error extracting username from token: {}", e.getMessage());
+            log.debug("Error extracting username from token: {}", e.getMessage());
             throw e;
         }
     }
     
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return new Date(parseToken(token).expiresAt());
+    }
+    
+    public String extractScope(String token) {
+        return parseToken(token).scope();
+    }
+    
+    public boolean isAuthentic(String token) {
+        try {
+            return verifyFast(token) != null || extractAllClaims(token) != null;
+        } catch (Exception e) {
+            return false;
+        }
     }
     
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -68,6 +111,20 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
     
+    private HmacJwtVerifier.VerifiedToken verifyFast(String token) {
+        if (fastVerifier == null) {
+            return null;
+        }
+        HmacJwtVerifier.VerifiedToken verified = fastVerifier.verify(token);
+        if (verified == HmacJwtVerifier.REJECTED) {
+            throw InvalidTokenException.INVALID_SIGNATURE;
+        }
+        if (verified == null || verified.expiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return verified;
+    }
+    
     private Claims extractAllClaims(String token) {
         try {
             return Jwts.parser()
@@ -76,35 +133,39 @@ public class JwtUtil {
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (Exception e) {
-            log.error("Error parsing JWT token: {}", e.getMessage());
+            log.debug("Error parsing JWT token: {}", e.getMessage());
             throw e;
         }
     }
     
     public Boolean isTokenExpired(String token) {
         try {
-            Date expiration = extractExpiration(token);
-            boolean expired = expiration.before(new Date());
+            boolean expired = parseToken(token).expiresAt() < System.currentTimeMillis();
             if (expired) {
                 log.debug("Token is expired");
             }
             return expired;
         } catch (Exception e) {
-            log.error("Error checking token expiration: {}", e.getMessage());
+            log.debug("Error checking token expiration: {}", e.getMessage());
             return true;
         }
     }
     
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            boolean isValid = username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-            log.debug("Token validation result for user {}: {}", username, isValid);
-            return isValid;
+            return validateToken(parseToken(token), userDetails);
         } catch (Exception e) {
-            log.warn("Token validation failed: {}", e.getMessage());
+            log.debug("Token validation failed: {}", e.getMessage());
             return false;
         }
     }
+    
+    public boolean validateToken(HmacJwtVerifier.VerifiedToken token, UserDetails userDetails) {
+        boolean isValid = token.scope() == null
+                && userDetails.getUsername().equals(token.subject())
+                && token.expiresAt() >= System.currentTimeMillis();
+        log.debug("Token validation result for user {}: {}", token.subject(), isValid);
+        return isValid;
+    }
 }
 
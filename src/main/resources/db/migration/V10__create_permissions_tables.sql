@@ -0,0 +1,61 @@
+-- Permissões finas por role. Cada permissão ocupa um bit (0 a 62) da máscara efetiva
+-- calculada na aplicação; o bit 63 fica reservado para permissões desconhecidas.
+CREATE TABLE IF NOT EXISTS permissions (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    bit SMALLINT NOT NULL UNIQUE,
+    description VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    CONSTRAINT ck_permissions_bit CHECK (bit BETWEEN 0 AND 62)
+);
+
+-- Permissões concedidas diretamente a cada role
+CREATE TABLE IF NOT EXISTS role_permissions (
+    role_id BIGINT NOT NULL,
+    permission_id BIGINT NOT NULL,
+    CONSTRAINT pk_role_permissions PRIMARY KEY (role_id, permission_id),
+    CONSTRAINT fk_role_permissions_role FOREIGN KEY (role_id)
+        REFERENCES roles(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_role_permissions_permission FOREIGN KEY (permission_id)
+        REFERENCES permissions(id)
+        ON DELETE CASCADE
+);
+
+-- Hierarquia: a role pai herda todas as permissões da role filha (fechamento transitivo)
+CREATE TABLE IF NOT EXISTS role_hierarchy (
+    parent_role_id BIGINT NOT NULL,
+    child_role_id BIGINT NOT NULL,
+    CONSTRAINT pk_role_hierarchy PRIMARY KEY (parent_role_id, child_role_id),
+    CONSTRAINT ck_role_hierarchy_not_self CHECK (parent_role_id <> child_role_id),
+    CONSTRAINT fk_role_hierarchy_parent FOREIGN KEY (parent_role_id)
+        REFERENCES roles(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_role_hierarchy_child FOREIGN KEY (child_role_id)
+        REFERENCES roles(id)
+        ON DELETE CASCADE
+);
+
+-- Inserir permissões iniciais
+INSERT INTO permissions (name, bit, description, created_at, updated_at)
+VALUES
+    ('profile:read', 0, 'Consultar o próprio perfil', NOW(), NOW()),
+    ('users:read', 1, 'Listar e buscar usuários', NOW(), NOW()),
+    ('users:export', 2, 'Exportar a base de usuários', NOW(), NOW()),
+    ('users:roles', 3, 'Conceder e revogar roles', NOW(), NOW())
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO role_permissions (role_id, permission_id)
+SELECT r.id, p.id
+FROM roles r
+JOIN permissions p ON (r.name = 'USER' AND p.name = 'profile:read')
+                   OR (r.name = 'ADMIN' AND p.name IN ('users:read', 'users:export', 'users:roles'))
+ON CONFLICT DO NOTHING;
+
+INSERT INTO role_hierarchy (parent_role_id, child_role_id)
+SELECT parent.id, child.id
+FROM roles parent
+JOIN roles child ON child.name = 'USER'
+WHERE parent.name = 'ADMIN'
+ON CONFLICT DO NOTHING;
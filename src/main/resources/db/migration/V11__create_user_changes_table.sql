@@ -0,0 +1,62 @@
+-- Outbox de alterações de usuários consumido pelo feed GET /v1/users/changes.
+-- As linhas são gravadas por triggers, na mesma transação que altera users ou user_roles,
+-- cobrindo o cadastro via JPA, o insert em lote do group-commit e as alterações de role em massa.
+CREATE TABLE IF NOT EXISTS user_changes (
+    seq BIGSERIAL PRIMARY KEY,
+    tx_id XID8 NOT NULL DEFAULT pg_current_xact_id(),
+    user_id BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    role_name VARCHAR(50),
+    changed_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP
+);
+
+-- O feed é lido na ordem (tx_id, seq): transações abaixo do xmin do snapshot já terminaram,
+-- então nenhuma linha nova pode aparecer antes do cursor de um consumidor
+CREATE INDEX IF NOT EXISTS idx_user_changes_tx_seq ON user_changes(tx_id, seq);
+
+-- Triggers por statement com transition tables: um único INSERT ... SELECT por comando,
+-- mesmo quando a alteração em massa atinge milhares de linhas
+CREATE OR REPLACE FUNCTION users_capture_changes() RETURNS trigger AS $$
+BEGIN
+    IF TG_TABLE_NAME = 'users' AND TG_OP = 'INSERT' THEN
+        INSERT INTO user_changes (user_id, change_type)
+        SELECT id, 'USER_CREATED' FROM new_rows ORDER BY id;
+    ELSIF TG_TABLE_NAME = 'users' THEN
+        INSERT INTO user_changes (user_id, change_type)
+        SELECT id, 'USER_DELETED' FROM old_rows ORDER BY id;
+    ELSIF TG_OP = 'INSERT' THEN
+        INSERT INTO user_changes (user_id, change_type, role_name)
+        SELECT n.user_id, 'ROLE_GRANTED', r.name
+        FROM new_rows n
+        JOIN roles r ON r.id = n.role_id
+        ORDER BY n.user_id;
+    ELSE
+        INSERT INTO user_changes (user_id, change_type, role_name)
+        SELECT o.user_id, 'ROLE_REVOKED', r.name
+        FROM old_rows o
+        JOIN roles r ON r.id = o.role_id
+        ORDER BY o.user_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_changes_insert
+    AFTER INSERT ON users
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION users_capture_changes();
+
+CREATE TRIGGER trg_users_changes_delete
+    AFTER DELETE ON users
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION users_capture_changes();
+
+CREATE TRIGGER trg_user_roles_changes_insert
+    AFTER INSERT ON user_roles
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION users_capture_changes();
+
+CREATE TRIGGER trg_user_roles_changes_delete
+    AFTER DELETE ON user_roles
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION users_capture_changes();
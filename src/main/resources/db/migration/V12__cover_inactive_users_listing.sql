@@ -0,0 +1,8 @@
+-- O relatório de inatividade (findInactiveSinceAfter) pagina por id e filtra por last_login_at
+-- com um cutoff variável, então o índice (last_login_at NULLS FIRST, id) da V5 não servia:
+-- o planner acabava usando idx_users_id e buscando cada linha no heap só para descartá-la.
+-- Este índice segue a ordem de id do cursor e cobre todas as colunas da projeção, permitindo
+-- um Index Only Scan por partição (Merge Append + Limit) com o filtro avaliado no próprio índice.
+CREATE INDEX IF NOT EXISTS idx_users_id_login_activity ON users(id) INCLUDE (last_login_at, login_count, username);
+
+DROP INDEX IF EXISTS idx_users_last_login_at;
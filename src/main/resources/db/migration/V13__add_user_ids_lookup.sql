@@ -0,0 +1,46 @@
+-- Tornar users.id único e barato de buscar sem reparticionar users.
+-- A chave de partição continua sendo username_key; user_ids mapeia id -> username_key
+-- (como user_emails faz para o email), garante a unicidade global do id pela chave primária
+-- e devolve a user_roles uma FK real no lugar do trigger de limpeza da V7.
+
+-- Constraint exigida pela FK composta: contém a chave de partição, então é permitida
+ALTER TABLE users ADD CONSTRAINT uk_users_username_key_id UNIQUE (username_key, id);
+
+-- Tabela não particionada: a chave primária em id é um único btree, o que também permite
+-- percorrer faixas de ids em ordem (alterações de role em massa) sem tocar as 16 partições
+CREATE TABLE user_ids (
+    id BIGINT NOT NULL,
+    username_key VARCHAR(50) NOT NULL,
+    CONSTRAINT pk_user_ids PRIMARY KEY (id),
+    CONSTRAINT fk_user_ids_user FOREIGN KEY (username_key, id)
+        REFERENCES users(username_key, id)
+        ON DELETE CASCADE
+);
+
+INSERT INTO user_ids (id, username_key)
+SELECT id, username_key FROM users;
+
+-- Preencher user_ids a cada inserção; um id repetido viola pk_user_ids e desfaz o INSERT em users
+CREATE OR REPLACE FUNCTION users_register_id() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO user_ids (id, username_key) VALUES (NEW.id, NEW.username_key);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_register_id
+    AFTER INSERT ON users
+    FOR EACH ROW EXECUTE FUNCTION users_register_id();
+
+-- FK real de user_roles: excluir o usuário remove a linha de user_ids e, em cascata, as roles
+DELETE FROM user_roles ur WHERE NOT EXISTS (SELECT 1 FROM user_ids i WHERE i.id = ur.user_id);
+
+ALTER TABLE user_roles ADD CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id)
+    REFERENCES user_ids(id)
+    ON DELETE CASCADE;
+
+DROP TRIGGER IF EXISTS trg_users_delete_roles ON users;
+DROP FUNCTION IF EXISTS users_delete_roles();
+
+-- Buscas e ordenações por id usam user_ids ou o índice coberto da V12
+DROP INDEX IF EXISTS idx_users_id;
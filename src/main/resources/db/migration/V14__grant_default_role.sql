@@ -0,0 +1,8 @@
+-- O cadastro passa a conceder a role USER (que carrega profile:read) a cada novo usuário.
+-- Usuários cadastrados antes disso ficaram sem nenhuma role e recebem a USER aqui.
+INSERT INTO user_roles (user_id, role_id)
+SELECT i.id, r.id
+FROM user_ids i
+JOIN roles r ON r.name = 'USER'
+WHERE NOT EXISTS (SELECT 1 FROM user_roles ur WHERE ur.user_id = i.id)
+ON CONFLICT DO NOTHING;
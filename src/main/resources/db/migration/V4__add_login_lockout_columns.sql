@@ -0,0 +1,7 @@
+-- Adicionar colunas de controle de falhas de login e bloqueio temporário
+ALTER TABLE users ADD COLUMN IF NOT EXISTS failed_login_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS last_failed_login_at TIMESTAMP;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS locked_until TIMESTAMP;
+
+-- Criar índice parcial para carregar apenas contas com falhas na inicialização
+CREATE INDEX IF NOT EXISTS idx_users_failed_login_attempts ON users(username) WHERE failed_login_attempts > 0;
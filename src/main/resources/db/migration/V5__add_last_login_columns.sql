@@ -0,0 +1,6 @@
+-- Adicionar colunas de rastreamento do último login
+ALTER TABLE users ADD COLUMN IF NOT EXISTS last_login_at TIMESTAMP;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS login_count BIGINT NOT NULL DEFAULT 0;
+
+-- Criar índice para relatórios de contas inativas
+CREATE INDEX IF NOT EXISTS idx_users_last_login_at ON users(last_login_at NULLS FIRST, id);
@@ -0,0 +1,14 @@
+-- Remover índices duplicados: cada UNIQUE já cria o seu próprio índice
+DROP INDEX IF EXISTS idx_roles_name;
+DROP INDEX IF EXISTS idx_users_username;
+DROP INDEX IF EXISTS idx_users_email;
+DROP INDEX IF EXISTS idx_users_email_lookup;
+
+-- Remover índice coberto pelo prefixo da chave primária (user_id, role_id)
+DROP INDEX IF EXISTS idx_user_roles_user_id;
+
+-- Substituir as constraints UNIQUE sensíveis a maiúsculas por índices únicos funcionais
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_username_key;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username_lower ON users (lower(username));
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email_lower ON users (lower(email));
@@ -0,0 +1,131 @@
+-- Migrar users para particionamento por hash da chave normalizada do username.
+-- Em tabelas particionadas toda constraint UNIQUE precisa conter a chave de partição,
+-- por isso a unicidade do email passa para a tabela auxiliar user_emails e a FK de
+-- user_roles para users(id) é substituída por um trigger de limpeza.
+
+-- Desacoplar a tabela atual e a sequence de ids
+ALTER TABLE user_roles DROP CONSTRAINT IF EXISTS fk_user_roles_user;
+ALTER TABLE users RENAME TO users_legacy;
+ALTER TABLE users_legacy ALTER COLUMN id DROP DEFAULT;
+ALTER SEQUENCE users_id_seq OWNED BY NONE;
+
+-- Criar tabela users particionada
+CREATE TABLE users (
+    id BIGINT NOT NULL DEFAULT nextval('users_id_seq'),
+    username_key VARCHAR(50) NOT NULL,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    failed_login_attempts INTEGER NOT NULL DEFAULT 0,
+    last_failed_login_at TIMESTAMP,
+    locked_until TIMESTAMP,
+    last_login_at TIMESTAMP,
+    login_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_users PRIMARY KEY (username_key),
+    CONSTRAINT ck_users_username_key CHECK (username_key = lower(username))
+) PARTITION BY HASH (username_key);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE users_p%s PARTITION OF users FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+                       lpad(i::text, 2, '0'), i);
+    END LOOP;
+END $$;
+
+-- Criar tabela de emails particionada pela chave normalizada do email
+CREATE TABLE user_emails (
+    email_key VARCHAR(100) NOT NULL,
+    user_id BIGINT NOT NULL,
+    username_key VARCHAR(50) NOT NULL,
+    CONSTRAINT pk_user_emails PRIMARY KEY (email_key)
+) PARTITION BY HASH (email_key);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE user_emails_p%s PARTITION OF user_emails FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+                       lpad(i::text, 2, '0'), i);
+    END LOOP;
+END $$;
+
+-- Copiar os dados existentes
+INSERT INTO users (id, username_key, username, email, password, created_at, updated_at,
+                   failed_login_attempts, last_failed_login_at, locked_until, last_login_at, login_count)
+SELECT id, lower(username), username, email, password, created_at, updated_at,
+       failed_login_attempts, last_failed_login_at, locked_until, last_login_at, login_count
+FROM users_legacy;
+
+INSERT INTO user_emails (email_key, user_id, username_key)
+SELECT lower(email), id, lower(username)
+FROM users_legacy;
+
+DROP TABLE users_legacy;
+ALTER SEQUENCE users_id_seq OWNED BY users.id;
+
+-- Recriar os índices secundários em cada partição
+CREATE INDEX IF NOT EXISTS idx_users_id ON users(id);
+CREATE INDEX IF NOT EXISTS idx_users_failed_login_attempts ON users(username_key) WHERE failed_login_attempts > 0;
+CREATE INDEX IF NOT EXISTS idx_users_last_login_at ON users(last_login_at NULLS FIRST, id);
+
+-- Particionar user_roles por user_id, mantendo a FK para roles
+ALTER TABLE user_roles RENAME TO user_roles_legacy;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    CONSTRAINT pk_user_roles PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_role_id FOREIGN KEY (role_id)
+        REFERENCES roles(id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+) PARTITION BY HASH (user_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE user_roles_p%s PARTITION OF user_roles FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+                       lpad(i::text, 2, '0'), i);
+    END LOOP;
+END $$;
+
+INSERT INTO user_roles (user_id, role_id)
+SELECT user_id, role_id FROM user_roles_legacy;
+
+DROP TABLE user_roles_legacy;
+CREATE INDEX IF NOT EXISTS idx_user_roles_role_id ON user_roles(role_id);
+
+-- Manter user_emails sincronizada e remover roles de usuários excluídos
+CREATE OR REPLACE FUNCTION users_sync_email() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND lower(NEW.email) = lower(OLD.email) THEN
+        RETURN NEW;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM user_emails WHERE email_key = lower(OLD.email);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO user_emails (email_key, user_id, username_key)
+        VALUES (lower(NEW.email), NEW.id, NEW.username_key);
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_sync_email
+    AFTER INSERT OR DELETE OR UPDATE OF email ON users
+    FOR EACH ROW EXECUTE FUNCTION users_sync_email();
+
+CREATE OR REPLACE FUNCTION users_delete_roles() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM user_roles WHERE user_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_delete_roles
+    AFTER DELETE ON users
+    FOR EACH ROW EXECUTE FUNCTION users_delete_roles();
@@ -0,0 +1,11 @@
+-- Criar tabela service_clients (contas de serviço do fluxo client credentials)
+-- secret_hash guarda o SHA-256 em hexadecimal do segredo, que deve ser aleatório e longo
+CREATE TABLE IF NOT EXISTS service_clients (
+    id BIGSERIAL PRIMARY KEY,
+    client_id VARCHAR(100) NOT NULL UNIQUE,
+    secret_hash CHAR(64) NOT NULL,
+    scopes VARCHAR(500) NOT NULL DEFAULT '',
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
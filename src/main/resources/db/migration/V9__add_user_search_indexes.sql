@@ -0,0 +1,11 @@
+-- Índices para busca de usuários por prefixo e por similaridade (type-ahead do suporte).
+-- text_pattern_ops permite usar o btree em LIKE 'prefixo%' e em ORDER BY ... USING ~<~
+-- independentemente da collation do banco; os índices GIN com pg_trgm atendem a busca
+-- aproximada (operador <%) quando o prefixo não encontra resultados suficientes.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_username_key_pattern ON users(username_key text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_pattern ON users(lower(email) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_users_username_key_trgm ON users USING gin (username_key gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
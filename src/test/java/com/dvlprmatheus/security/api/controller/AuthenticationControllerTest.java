@@ -1,11 +1,19 @@
 package com.dvlprmatheus.security.api.controller;
 
+import com.dvlprmatheus.security.api.exception.AuthenticationFailedException;
 import com.dvlprmatheus.security.api.exception.EmailAlreadyExistsException;
 import com.dvlprmatheus.security.api.exception.UsernameAlreadyExistsException;
+import com.dvlprmatheus.security.api.request.ClientTokenRequest;
 import com.dvlprmatheus.security.api.request.LoginRequest;
 import com.dvlprmatheus.security.api.request.RegisterRequest;
 import com.dvlprmatheus.security.api.response.AuthResponse;
+import com.dvlprmatheus.security.api.response.AvailabilityResponse;
+import com.dvlprmatheus.security.api.response.ClientTokenResponse;
+import com.dvlprmatheus.security.api.response.ErrorResponse;
 import com.dvlprmatheus.security.service.AuthenticationService;
+import com.dvlprmatheus.security.service.AvailabilityService;
+import com.dvlprmatheus.security.service.BreachedPasswordService;
+import com.dvlprmatheus.security.service.ServiceClientService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,12 +25,19 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -37,9 +52,21 @@ class AuthenticationControllerTest {
     @Autowired
     private AuthenticationService authenticationService;
     
+    @Autowired
+    private AvailabilityService availabilityService;
+    
+    @Autowired
+    private ServiceClientService serviceClientService;
+    
+    @Autowired
+    private BreachedPasswordService breachedPasswordService;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
+    @Autowired
+    private CBORMapper cborMapper;
+    
     @TestConfiguration
     static class TestConfig {
         @Bean
@@ -48,6 +75,24 @@ class AuthenticationControllerTest {
             return mock(AuthenticationService.class);
         }
         
+        @Bean
+        @Primary
+        public AvailabilityService availabilityService() {
+            return mock(AvailabilityService.class);
+        }
+        
+        @Bean
+        @Primary
+        public ServiceClientService serviceClientService() {
+            return mock(ServiceClientService.class);
+        }
+        
+        @Bean
+        @Primary
+        public BreachedPasswordService breachedPasswordService() {
+            return mock(BreachedPasswordService.class);
+        }
+        
         @Bean
         public ObjectMapper objectMapper() {
             return new ObjectMapper();
@@ -98,6 +143,24 @@ class AuthenticationControllerTest {
                 .andExpect(status().isBadRequest());
     }
     
+    @Test
+    void register_ShouldReturnBadRequestWithPasswordError_WhenPasswordIsBreached() throws Exception {
+        RegisterRequest request = RegisterRequest.builder()
+                .username("testuser")
+                .email("test@example.com")
+                .password("password123")
+                .build();
+        
+        when(breachedPasswordService.isBreached("password123")).thenReturn(true);
+        
+        mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field").value("password"))
+                .andExpect(jsonPath("$.fieldErrors[0].message").value("Password has appeared in a data breach, choose a different one"));
+    }
+    
     @Test
     void register_ShouldReturnConflict_WhenUsernameExists() throws Exception {
         RegisterRequest request = RegisterRequest.builder()
@@ -134,6 +197,49 @@ class AuthenticationControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
     
+    @Test
+    void token_ShouldReturnOk_WhenClientCredentialsAreValid() throws Exception {
+        ClientTokenRequest request = ClientTokenRequest.builder()
+                .clientId("billing-job")
+                .clientSecret("s3cr3t")
+                .build();
+        
+        ClientTokenResponse response = ClientTokenResponse.builder()
+                .token("client-token")
+                .type("Bearer")
+                .clientId("billing-job")
+                .scope("users:read")
+                .expiresIn(3600L)
+                .build();
+        
+        when(serviceClientService.issueToken(any(ClientTokenRequest.class))).thenReturn(response);
+        
+        mockMvc.perform(post("/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("client-token"))
+                .andExpect(jsonPath("$.scope").value("users:read"))
+                .andExpect(jsonPath("$.expiresIn").value(3600));
+    }
+    
+    @Test
+    void token_ShouldReturnUnauthorized_WhenClientCredentialsAreInvalid() throws Exception {
+        ClientTokenRequest request = ClientTokenRequest.builder()
+                .clientId("billing-job")
+                .clientSecret("wrong")
+                .build();
+        
+        when(serviceClientService.issueToken(any(ClientTokenRequest.class)))
+                .thenThrow(AuthenticationFailedException.INVALID_CLIENT);
+        
+        mockMvc.perform(post("/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(AuthenticationFailedException.INVALID_CLIENT.getMessage()));
+    }
+    
     @Test
     void login_ShouldReturnOk_WhenCredentialsAreValid() throws Exception {
         LoginRequest request = LoginRequest.builder()
@@ -187,4 +293,114 @@ class AuthenticationControllerTest {
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.message").exists());
     }
+    
+    @Test
+    void availability_ShouldReturnOk_WhenUsernameIsProvided() throws Exception {
+        AvailabilityResponse response = AvailabilityResponse.builder()
+                .username("newuser")
+                .usernameAvailable(true)
+                .build();
+        
+        when(availabilityService.check(eq("newuser"), isNull())).thenReturn(response);
+        
+        mockMvc.perform(get("/auth/availability").param("username", "newuser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("newuser"))
+                .andExpect(jsonPath("$.usernameAvailable").value(true))
+                .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+    }
+    
+    @Test
+    void availability_ShouldReturnBadRequest_WhenNothingIsProvided() throws Exception {
+        mockMvc.perform(get("/auth/availability"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void login_ShouldNegotiateCbor_WhenClientSendsAndAcceptsCbor() throws Exception {
+        LoginRequest request = LoginRequest.builder()
+                .username("testuser")
+                .password("password123")
+                .build();
+        
+        AuthResponse response = AuthResponse.builder()
+                .token("jwt-token")
+                .type("Bearer")
+                .username("testuser")
+                .build();
+        
+        when(authenticationService.login(any(LoginRequest.class))).thenReturn(response);
+        
+        MvcResult result = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        
+        AuthResponse body = cborMapper.readValue(result.getResponse().getContentAsByteArray(), AuthResponse.class);
+        assertEquals("jwt-token", body.getToken());
+        assertEquals("testuser", body.getUsername());
+    }
+    
+    @Test
+    void login_ShouldReturnCborError_WhenCredentialsAreInvalidAndClientAcceptsCbor() throws Exception {
+        LoginRequest request = LoginRequest.builder()
+                .username("testuser")
+                .password("wrongpassword")
+                .build();
+        
+        when(authenticationService.login(any(LoginRequest.class)))
+                .thenThrow(AuthenticationFailedException.INVALID_CREDENTIALS);
+        
+        MvcResult result = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        
+        ErrorResponse body = cborMapper.readValue(result.getResponse().getContentAsByteArray(), ErrorResponse.class);
+        assertEquals(401, body.getStatus());
+        assertNull(body.getFieldErrors());
+    }
+    
+    @Test
+    void login_ShouldReturnJsonError_WhenClientPrefersJsonOverCbor() throws Exception {
+        LoginRequest request = LoginRequest.builder()
+                .username("testuser")
+                .password("wrongpassword")
+                .build();
+        
+        when(authenticationService.login(any(LoginRequest.class)))
+                .thenThrow(AuthenticationFailedException.INVALID_CREDENTIALS);
+        
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Accept", "application/cbor;q=0.1, application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(401));
+    }
+    
+    @Test
+    void login_ShouldReturnCborError_WhenCborIsTheOnlyAcceptableType() throws Exception {
+        LoginRequest request = LoginRequest.builder()
+                .username("testuser")
+                .password("wrongpassword")
+                .build();
+        
+        when(authenticationService.login(any(LoginRequest.class)))
+                .thenThrow(AuthenticationFailedException.INVALID_CREDENTIALS);
+        
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Accept", "application/json;q=0, application/cbor;q=0.5")
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+    }
 }
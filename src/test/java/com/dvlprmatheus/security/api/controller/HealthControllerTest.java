@@ -0,0 +1,66 @@
+package com.dvlprmatheus.security.api.controller;
+
+import com.dvlprmatheus.security.service.overload.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class HealthControllerTest {
+    
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+    
+    private MockMvc mockMvc;
+    
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        @Primary
+        public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter() {
+            return mock(AdaptiveConcurrencyLimiter.class);
+        }
+    }
+    
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        when(limiter.getLimit()).thenReturn(40);
+        when(limiter.getInFlight()).thenReturn(12);
+    }
+    
+    @Test
+    void health_ShouldReturnOk_WhenReady() throws Exception {
+        when(limiter.isReady()).thenReturn(true);
+        
+        mockMvc.perform(get("/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.concurrencyLimit").value(40))
+                .andExpect(jsonPath("$.inFlight").value(12));
+    }
+    
+    @Test
+    void health_ShouldReturnServiceUnavailable_WhenSheddingIsSustained() throws Exception {
+        when(limiter.isReady()).thenReturn(false);
+        
+        mockMvc.perform(get("/health"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("OUT_OF_SERVICE"));
+    }
+}
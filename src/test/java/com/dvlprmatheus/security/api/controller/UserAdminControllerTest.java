@@ -0,0 +1,311 @@
+package com.dvlprmatheus.security.api.controller;
+
+import com.dvlprmatheus.security.api.exception.ChangeCursorExpiredException;
+import com.dvlprmatheus.security.api.request.BulkRoleRequest;
+import com.dvlprmatheus.security.api.response.BulkRoleResponse;
+import com.dvlprmatheus.security.api.response.LoginActivityPageResponse;
+import com.dvlprmatheus.security.api.response.LoginActivityResponse;
+import com.dvlprmatheus.security.api.response.UserChangePageResponse;
+import com.dvlprmatheus.security.api.response.UserChangeResponse;
+import com.dvlprmatheus.security.api.response.UserPageResponse;
+import com.dvlprmatheus.security.api.response.UserSearchResponse;
+import com.dvlprmatheus.security.api.response.UserSummaryResponse;
+import com.dvlprmatheus.security.service.UserAdminService;
+import com.dvlprmatheus.security.service.UserChangeFeedService;
+import com.dvlprmatheus.security.service.UserChangeStreamService;
+import com.dvlprmatheus.security.service.UserExportService;
+import com.dvlprmatheus.security.service.UserSearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class UserAdminControllerTest {
+    
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    
+    @Autowired
+    private UserAdminService userAdminService;
+    
+    @Autowired
+    private UserExportService userExportService;
+    
+    @Autowired
+    private UserSearchService userSearchService;
+    
+    @Autowired
+    private UserChangeFeedService userChangeFeedService;
+    
+    @Autowired
+    private UserChangeStreamService userChangeStreamService;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private MockMvc mockMvc;
+    
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        @Primary
+        public UserAdminService userAdminService() {
+            return mock(UserAdminService.class);
+        }
+        
+        @Bean
+        @Primary
+        public UserExportService userExportService() {
+            return mock(UserExportService.class);
+        }
+        
+        @Bean
+        @Primary
+        public UserSearchService userSearchService() {
+            return mock(UserSearchService.class);
+        }
+        
+        @Bean
+        @Primary
+        public UserChangeFeedService userChangeFeedService() {
+            return mock(UserChangeFeedService.class);
+        }
+        
+        @Bean
+        @Primary
+        public UserChangeStreamService userChangeStreamService() {
+            return mock(UserChangeStreamService.class);
+        }
+    }
+    
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+    
+    @Test
+    void list_ShouldReturnPage_WhenUserIsAdmin() throws Exception {
+        UserPageResponse page = UserPageResponse.builder()
+                .users(List.of(UserSummaryResponse.builder()
+                        .id(42L)
+                        .username("testuser")
+                        .email("test@example.com")
+                        .roles(List.of("USER"))
+                        .build()))
+                .nextCursor(42L)
+                .build();
+        
+        when(userAdminService.listUsers(eq(0L), eq(50), isNull())).thenReturn(page);
+        
+        mockMvc.perform(get("/v1/users").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].username").value("testuser"))
+                .andExpect(jsonPath("$.users[0].roles[0]").value("USER"))
+                .andExpect(jsonPath("$.nextCursor").value(42));
+    }
+    
+    @Test
+    void list_ShouldReturnForbidden_WhenUserIsNotAdmin() throws Exception {
+        mockMvc.perform(get("/v1/users").with(user("testuser").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    void list_ShouldReturnBadRequest_WhenLimitIsTooLarge() throws Exception {
+        mockMvc.perform(get("/v1/users").param("limit", "5000").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void loginActivity_ShouldReturnInactiveUsers_WhenUserIsAdmin() throws Exception {
+        LoginActivityPageResponse page = LoginActivityPageResponse.builder()
+                .users(List.of(LoginActivityResponse.builder()
+                        .id(7L)
+                        .username("dormant")
+                        .loginCount(0L)
+                        .build()))
+                .build();
+        
+        when(userAdminService.listLoginActivity(eq(0L), eq(50), eq(90))).thenReturn(page);
+        
+        mockMvc.perform(get("/v1/users/login-activity").param("inactiveDays", "90").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].username").value("dormant"))
+                .andExpect(jsonPath("$.users[0].loginCount").value(0))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+    
+    @Test
+    void grantRole_ShouldReturnChunkProgress_WhenRequestIsValid() throws Exception {
+        BulkRoleRequest request = BulkRoleRequest.builder()
+                .userIds(List.of(1L, 2L, 3L))
+                .build();
+        
+        BulkRoleResponse response = BulkRoleResponse.builder()
+                .role("ADMIN")
+                .action("GRANT")
+                .totalAffected(3)
+                .chunks(List.of(BulkRoleResponse.ChunkResult.builder()
+                        .chunk(1)
+                        .fromId(1)
+                        .toId(3)
+                        .affected(3)
+                        .build()))
+                .build();
+        
+        when(userAdminService.changeRole(eq("admin"), any(BulkRoleRequest.class), eq(true))).thenReturn(response);
+        
+        mockMvc.perform(post("/v1/users/roles/admin/grant")
+                        .with(user("admin").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAffected").value(3))
+                .andExpect(jsonPath("$.chunks[0].affected").value(3));
+    }
+    
+    @Test
+    void grantRole_ShouldReturnBadRequest_WhenNoTargetIsGiven() throws Exception {
+        mockMvc.perform(post("/v1/users/roles/admin/grant")
+                        .with(user("admin").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void search_ShouldReturnRankedMatches_WhenUserIsAdmin() throws Exception {
+        UserSearchResponse response = UserSearchResponse.builder()
+                .query("test")
+                .users(List.of(UserSearchResponse.Match.builder()
+                        .id(42L)
+                        .username("testuser")
+                        .email("test@example.com")
+                        .matchedBy("USERNAME_PREFIX")
+                        .score(1.0)
+                        .build()))
+                .build();
+        
+        when(userSearchService.search("test", 10)).thenReturn(response);
+        
+        mockMvc.perform(get("/v1/users/search").param("q", "test").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].username").value("testuser"))
+                .andExpect(jsonPath("$.users[0].matchedBy").value("USERNAME_PREFIX"));
+    }
+    
+    @Test
+    void search_ShouldReturnBadRequest_WhenQueryIsBlank() throws Exception {
+        mockMvc.perform(get("/v1/users/search").param("q", " ").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void export_ShouldStreamNdjson_WhenUserIsAdmin() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("{\"id\":1,\"username\":\"testuser\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(userExportService).export(eq(UserExportService.Format.NDJSON), any(OutputStream.class));
+        
+        MvcResult result = mockMvc.perform(get("/v1/users/export").param("format", "ndjson").with(user("admin").roles("ADMIN")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.ndjson\""))
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1,\"username\":\"testuser\"}\n"));
+    }
+    
+    @Test
+    void export_ShouldReturnBadRequest_WhenFormatIsUnknown() throws Exception {
+        mockMvc.perform(get("/v1/users/export").param("format", "xml").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void export_ShouldReturnForbidden_WhenUserIsNotAdmin() throws Exception {
+        mockMvc.perform(get("/v1/users/export").with(user("testuser").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    void changes_ShouldReturnPageWithNextCursor_WhenUserIsAdmin() throws Exception {
+        UserChangePageResponse page = UserChangePageResponse.builder()
+                .changes(List.of(UserChangeResponse.builder()
+                        .seq(1042L)
+                        .userId(42L)
+                        .type("ROLE_GRANTED")
+                        .role("USER")
+                        .build()))
+                .nextCursor(1042L)
+                .hasMore(false)
+                .build();
+        
+        when(userChangeFeedService.listChanges(1041L, 100)).thenReturn(page);
+        
+        mockMvc.perform(get("/v1/users/changes").param("after", "1041").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.changes[0].type").value("ROLE_GRANTED"))
+                .andExpect(jsonPath("$.changes[0].role").value("USER"))
+                .andExpect(jsonPath("$.nextCursor").value(1042))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+    
+    @Test
+    void changes_ShouldReturnGone_WhenCursorHasExpired() throws Exception {
+        when(userChangeFeedService.listChanges(5L, 100)).thenThrow(new ChangeCursorExpiredException(5L));
+        
+        mockMvc.perform(get("/v1/users/changes").param("after", "5").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isGone());
+    }
+    
+    @Test
+    void changes_ShouldReturnForbidden_WhenUserIsNotAdmin() throws Exception {
+        mockMvc.perform(get("/v1/users/changes").with(user("testuser").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    void streamChanges_ShouldResumeFromLastEventId_WhenHeaderIsPresent() throws Exception {
+        when(userChangeStreamService.subscribe(1042L)).thenReturn(new SseEmitter());
+        
+        mockMvc.perform(get("/v1/users/changes/stream")
+                        .param("after", "7")
+                        .header("Last-Event-ID", "1042")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(request().asyncStarted());
+    }
+}
@@ -11,10 +11,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
@@ -36,6 +38,14 @@ class UserControllerTest {
         SecurityContextHolder.clearContext();
     }
     
+    private void authenticate(User user) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                user, null, user.getAuthorities());
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authentication);
+        SecurityContextHolder.setContext(securityContext);
+    }
+    
     @Test
     void test_ShouldReturnOkWithUserInfo_WhenUserIsAuthenticated() throws Exception {
         User user = User.builder()
@@ -44,11 +54,7 @@ class UserControllerTest {
                 .password("encodedPassword")
                 .build();
         
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user, null, user.getAuthorities());
-        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
-        securityContext.setAuthentication(authentication);
-        SecurityContextHolder.setContext(securityContext);
+        authenticate(user);
         
         mockMvc.perform(get("/v1/user/test"))
                 .andExpect(status().isOk())
@@ -63,5 +69,46 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.message").value("User not authenticated"))
                 .andExpect(jsonPath("$.username").isEmpty());
     }
+    
+    @Test
+    void me_ShouldReturnProfileWithETag_WhenUserIsAuthenticated() throws Exception {
+        User user = User.builder()
+                .username("testuser")
+                .email("test@example.com")
+                .password("encodedPassword")
+                .build();
+        authenticate(user);
+        
+        mockMvc.perform(get("/v1/user/me"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.username").value("testuser"))
+                .andExpect(jsonPath("$.email").value("test@example.com"));
+    }
+    
+    @Test
+    void me_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        User user = User.builder()
+                .username("testuser")
+                .email("test@example.com")
+                .password("encodedPassword")
+                .build();
+        authenticate(user);
+        
+        MvcResult first = mockMvc.perform(get("/v1/user/me"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+        
+        mockMvc.perform(get("/v1/user/me").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+    
+    @Test
+    void me_ShouldReturnUnauthorized_WhenUserIsNotAuthenticated() throws Exception {
+        mockMvc.perform(get("/v1/user/me"))
+                .andExpect(status().isUnauthorized());
+    }
 }
-
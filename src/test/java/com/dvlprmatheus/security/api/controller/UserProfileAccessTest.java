@@ -0,0 +1,100 @@
+package com.dvlprmatheus.security.api.controller;
+
+import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.repository.UserBatchInsertRepository;
+import com.jayway.jsonpath.JsonPath;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = "login-activity.flush-interval-millis=3600000")
+class UserProfileAccessTest {
+    
+    private static EmbeddedPostgres postgres;
+    
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    
+    @Autowired
+    private UserBatchInsertRepository userBatchInsertRepository;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    private MockMvc mockMvc;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        String url = postgres.getJdbcUrl("postgres", "postgres");
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.flyway.url", () -> url);
+    }
+    
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+    
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+    
+    @Test
+    void me_ShouldReturnOk_WhenUserHasJustRegistered() throws Exception {
+        String body = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"Newcomer\",\"email\":\"newcomer@example.com\",\"password\":\"s3cret-pass\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String token = JsonPath.read(body, "$.token");
+        
+        mockMvc.perform(get("/v1/user/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("Newcomer"))
+                .andExpect(jsonPath("$.roles[0]").value("USER"));
+    }
+    
+    @Test
+    void me_ShouldReturnOk_WhenUserWasRegisteredInBatch() throws Exception {
+        User user = User.builder()
+                .username("Batched")
+                .email("batched@example.com")
+                .password(passwordEncoder.encode("s3cret-pass"))
+                .build();
+        assertTrue(userBatchInsertRepository.insertAll(List.of(user)).get(0).inserted());
+        String body = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"Batched\",\"password\":\"s3cret-pass\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = JsonPath.read(body, "$.token");
+        
+        mockMvc.perform(get("/v1/user/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("Batched"));
+    }
+}
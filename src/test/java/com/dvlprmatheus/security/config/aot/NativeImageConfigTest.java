@@ -0,0 +1,42 @@
+package com.dvlprmatheus.security.config.aot;
+
+import com.dvlprmatheus.security.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeImageConfigTest {
+    
+    private RuntimeHints hints;
+    
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeImageConfig.SecurityRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+    
+    @Test
+    void registerHints_ShouldCoverEveryJjwtImplementation_OnTheClasspath() throws Exception {
+        for (String type : NativeImageConfig.JJWT_IMPLEMENTATIONS) {
+            assertNotNull(Class.forName(type), type);
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints), type);
+        }
+        for (String service : NativeImageConfig.JJWT_SERVICES) {
+            assertNotNull(getClass().getClassLoader().getResource(service), service);
+            assertTrue(RuntimeHintsPredicates.resource().forResource(service).test(hints), service);
+        }
+    }
+    
+    @Test
+    void registerHints_ShouldCoverEntitiesAndMigrations() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(User.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_roles_table.sql").test(hints));
+    }
+}
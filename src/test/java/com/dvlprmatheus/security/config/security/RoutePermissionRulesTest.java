@@ -0,0 +1,102 @@
+package com.dvlprmatheus.security.config.security;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.dvlprmatheus.security.config.security.RoutePermissionRules.route;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePermissionRulesTest {
+    
+    private static final Map<String, Long> BITS = Map.of("read", 1L, "export", 2L, "roles", 4L);
+    
+    private final RoutePermissionRules rules = RoutePermissionRules.compile(List.of(
+            route("GET", "/v1/users", "read"),
+            route("GET", "/v1/users/export", "export"),
+            route("POST", "/v1/users/roles/{role}/grant", "roles"),
+            route("GET", "/v1/users/*/audit", "read", "export"),
+            route(null, "/v1/users/**", "read", "export", "roles"),
+            route("GET", "/v1/users", "roles"),
+            route("DELETE", "/v1/missing", "unknown")
+    ), permissions -> permissions.stream().mapToLong(name -> BITS.getOrDefault(name, Long.MIN_VALUE)).reduce(0, (a, b) -> a | b));
+    
+    @Test
+    void requiredMask_ShouldPreferLiteralOverWildcardOverRemainder() {
+        assertEquals(1L, rules.requiredMask("GET", "/v1/users"));
+        assertEquals(2L, rules.requiredMask("GET", "/v1/users/export"));
+        assertEquals(3L, rules.requiredMask("GET", "/v1/users/42/audit"));
+        assertEquals(4L, rules.requiredMask("POST", "/v1/users/roles/admin/grant"));
+        assertEquals(7L, rules.requiredMask("GET", "/v1/users/42"));
+        assertEquals(7L, rules.requiredMask("POST", "/v1/users/export"));
+    }
+    
+    @Test
+    void requiredMask_ShouldBacktrackToWildcard_WhenLiteralBranchHasNoRule() {
+        assertEquals(3L, rules.requiredMask("GET", "/v1/users/export/audit"));
+        assertEquals(7L, rules.requiredMask("GET", "/v1/users/roles/admin/grant"));
+    }
+    
+    @Test
+    void requiredMask_ShouldKeepFirstRule_ForSamePatternAndMethod() {
+        assertEquals(1L, rules.requiredMask("GET", "/v1/users/"));
+        assertEquals(1L, rules.requiredMask("GET", "//v1//users"));
+    }
+    
+    @Test
+    void requiredMask_ShouldApplyAnyMethodRules_ToUnlistedMethods() {
+        assertEquals(7L, rules.requiredMask("PROPFIND", "/v1/users"));
+        assertEquals(7L, rules.requiredMask("HEAD", "/v1/users"));
+    }
+    
+    @Test
+    void requiredMask_ShouldBeZero_WhenNoRuleMatches() {
+        assertEquals(0L, rules.requiredMask("GET", "/v1/user/test"));
+        assertEquals(0L, rules.requiredMask("GET", "/"));
+        assertEquals(0L, rules.requiredMask("GET", "/v1"));
+    }
+    
+    @Test
+    void requiredMask_ShouldNeverBeSatisfiable_WhenPermissionIsUnknown() {
+        long required = rules.requiredMask("DELETE", "/v1/missing");
+        
+        long everyKnownBit = (1L << 63) - 1;
+        assertNotEquals(required, everyKnownBit & required);
+    }
+    
+    @Test
+    void compile_ShouldRejectRemainderBeforeLastSegment() {
+        assertThrows(IllegalArgumentException.class, () -> RoutePermissionRules.compile(
+                List.of(route("GET", "/v1/**/x", "read")), permissions -> 1L));
+    }
+    
+    @Test
+    void securityConfigRoutes_ShouldRequireProfileRead_ForOwnProfileOnly() {
+        Map<String, Long> bits = Map.of("profile:read", 1L, "users:read", 2L, "users:export", 4L, "users:roles", 8L);
+        RoutePermissionRules configured = RoutePermissionRules.compile(SecurityConfig.ROUTES,
+                permissions -> permissions.stream().mapToLong(bits::get).reduce(0, (a, b) -> a | b));
+        
+        assertEquals(1L, configured.requiredMask("GET", "/v1/user/me"));
+        assertEquals(1L, configured.requiredMask("HEAD", "/v1/user/me"));
+        assertEquals(0L, configured.requiredMask("GET", "/v1/user/test"));
+        assertEquals(2L, configured.requiredMask("GET", "/v1/users"));
+    }
+    
+    @Test
+    void isStreamingDispatch_ShouldOnlyMatchAsyncDispatchOfStreamingRoutes() {
+        assertTrue(SecurityConfig.isStreamingDispatch(dispatch(DispatcherType.ASYNC, "/v1/users/export")));
+        assertTrue(SecurityConfig.isStreamingDispatch(dispatch(DispatcherType.ASYNC, "/v1/users/changes/stream")));
+        assertFalse(SecurityConfig.isStreamingDispatch(dispatch(DispatcherType.REQUEST, "/v1/users/export")));
+        assertFalse(SecurityConfig.isStreamingDispatch(dispatch(DispatcherType.ASYNC, "/v1/users")));
+    }
+    
+    private static MockHttpServletRequest dispatch(DispatcherType type, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.setDispatcherType(type);
+        return request;
+    }
+}
@@ -0,0 +1,40 @@
+package com.dvlprmatheus.security.config.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AsyncTimeoutConfigTest {
+    
+    private final AsyncTimeoutConfig.RequestTimeoutInterceptor interceptor = new AsyncTimeoutConfig.RequestTimeoutInterceptor();
+    
+    @Test
+    void beforeConcurrentHandling_ShouldApplyTimeout_WhenRequestCarriesOne() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/users/export");
+        request.setAsyncSupported(true);
+        request.setAttribute(AsyncTimeoutConfig.TIMEOUT_ATTRIBUTE, 3_600_000L);
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(30_000L);
+        
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+        
+        assertEquals(3_600_000L, request.getAsyncContext().getTimeout());
+    }
+    
+    @Test
+    void beforeConcurrentHandling_ShouldKeepDefaultTimeout_WhenRequestCarriesNone() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/users");
+        request.setAsyncSupported(true);
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(30_000L);
+        
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+        
+        assertEquals(30_000L, request.getAsyncContext().getTimeout());
+    }
+}
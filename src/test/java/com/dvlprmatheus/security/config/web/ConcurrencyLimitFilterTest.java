@@ -0,0 +1,64 @@
+package com.dvlprmatheus.security.config.web;
+
+import com.dvlprmatheus.security.config.jwt.JwtProperties;
+import com.dvlprmatheus.security.config.overload.ConcurrencyLimitProperties;
+import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.service.overload.AdaptiveConcurrencyLimiter;
+import com.dvlprmatheus.security.service.overload.AdaptiveConcurrencyLimiter.Priority;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ConcurrencyLimitFilterTest {
+    
+    private JwtUtil jwtUtil;
+    
+    private ConcurrencyLimitFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6e7f8a9b0c1d2e3f4a5b6c7d8e9f0a1b2");
+        jwtProperties.setExpiration(60_000L);
+        jwtProperties.setFastVerifierEnabled(true);
+        jwtUtil = new JwtUtil(jwtProperties);
+        
+        filter = new ConcurrencyLimitFilter(mock(AdaptiveConcurrencyLimiter.class), new ConcurrencyLimitProperties(), jwtUtil);
+    }
+    
+    @Test
+    void classify_ShouldGiveReadPriority_WhenBearerIsAuthentic() {
+        String token = jwtUtil.generateToken(User.builder().username("reader").build());
+        
+        assertEquals(Priority.READ, filter.classify(request("GET", "/v1/user/me", "Bearer " + token)));
+    }
+    
+    @Test
+    void classify_ShouldGiveLowestPriority_WhenBearerIsForged() {
+        String token = jwtUtil.generateToken(User.builder().username("reader").build());
+        String forged = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+        
+        assertEquals(Priority.LOGIN, filter.classify(request("GET", "/v1/user/me", "Bearer " + forged)));
+        assertEquals(Priority.LOGIN, filter.classify(request("GET", "/v1/user/me", "Bearer not-a-jwt")));
+    }
+    
+    @Test
+    void classify_ShouldKeepDefaultPriority_ForWritesAndAnonymousReads() {
+        assertEquals(Priority.DEFAULT, filter.classify(request("GET", "/v1/user/me", null)));
+        assertEquals(Priority.DEFAULT, filter.classify(request("DELETE", "/v1/users/1", "Bearer not-a-jwt")));
+        assertEquals(Priority.LOGIN, filter.classify(request("POST", "/auth/login", null)));
+    }
+    
+    private static MockHttpServletRequest request(String method, String path, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,180 @@
+package com.dvlprmatheus.security.repository;
+
+import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.repository.projection.UserRoleName;
+import com.dvlprmatheus.security.service.LoginActivityRecorder;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "login-activity.flush-interval-millis=3600000")
+@Transactional
+class UserPartitioningRepositoryTest {
+    
+    private static final String FIND_BY_ID_PLAN = "EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF, SUMMARY OFF) "
+            + "SELECT u.* FROM users u WHERE u.username_key = "
+            + "(SELECT i.username_key FROM user_ids i WHERE i.id = ?) AND u.id = ?";
+    
+    private static EmbeddedPostgres postgres;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private UserRoleBulkRepository userRoleBulkRepository;
+    
+    @Autowired
+    private LoginActivityRecorder loginActivityRecorder;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        String url = postgres.getJdbcUrl("postgres", "postgres");
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.flyway.url", () -> url);
+    }
+    
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+    
+    @Test
+    void findById_ShouldLoadUserThroughIdLookup() {
+        Long id = persist("Alice", "alice@example.com");
+        
+        User user = userRepository.findById(id).orElseThrow();
+        
+        assertEquals("Alice", user.getUsername());
+        assertEquals("alice", user.getUsernameKey());
+        assertTrue(userRepository.findById(id + 1000).isEmpty());
+    }
+    
+    @Test
+    void findById_ShouldScanOnlyTheOwningPartition() {
+        Long id = persist("Pruned", "pruned@example.com");
+        
+        String plan = String.join("\n", jdbcTemplate.queryForList(FIND_BY_ID_PLAN, String.class, id, id));
+        
+        assertTrue(plan.contains("Subplans Removed: 15"), plan);
+    }
+    
+    @Test
+    void save_ShouldUpdateRowLoadedById() {
+        Long id = persist("Carol", "carol@example.com");
+        
+        User user = userRepository.findById(id).orElseThrow();
+        user.setEmail("carol.new@example.com");
+        userRepository.saveAndFlush(user);
+        
+        assertEquals("carol.new@example.com",
+                jdbcTemplate.queryForObject("SELECT email FROM users WHERE username_key = 'carol'", String.class));
+        assertEquals(id, jdbcTemplate.queryForObject(
+                "SELECT user_id FROM user_emails WHERE email_key = 'carol.new@example.com'", Long.class));
+    }
+    
+    @Test
+    void save_ShouldUpdateUserPersistedInTheSameSession_WhenUsernameHasUpperCase() {
+        User user = userRepository.saveAndFlush(User.builder()
+                .username("MixedCase")
+                .email("mixed@example.com")
+                .password("hash")
+                .build());
+        
+        user.setPassword("new-hash");
+        userRepository.saveAndFlush(user);
+        
+        assertEquals("new-hash",
+                jdbcTemplate.queryForObject("SELECT password FROM users WHERE username_key = 'mixedcase'", String.class));
+    }
+    
+    @Test
+    void insert_ShouldRejectDuplicateId() {
+        Long id = persist("Dave", "dave@example.com");
+        
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO users (id, username_key, username, email, password) VALUES (?, 'erin', 'erin', 'erin@example.com', 'x')",
+                id));
+    }
+    
+    @Test
+    void userRoles_ShouldRejectUnknownUserId() {
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO user_roles (user_id, role_id) SELECT 987654321, id FROM roles WHERE name = 'USER'"));
+    }
+    
+    @Test
+    void delete_ShouldCascadeRolesThroughUserIds() {
+        Long id = persist("Frank", "frank@example.com");
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) SELECT ?, id FROM roles", id);
+        
+        jdbcTemplate.update("DELETE FROM users WHERE username_key = 'frank'");
+        
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM user_roles WHERE user_id = ?", Integer.class, id));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM user_ids WHERE id = ?", Integer.class, id));
+    }
+    
+    @Test
+    void findRoleNamesByUserIds_ShouldReturnRolesOfEachUser() {
+        Long id = persist("Grace", "grace@example.com");
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) SELECT ?, id FROM roles WHERE name = 'ADMIN'", id);
+        
+        List<UserRoleName> roles = userRepository.findRoleNamesByUserIds(List.of(id));
+        
+        assertEquals(1, roles.size());
+        assertEquals(id, roles.get(0).getUserId());
+        assertEquals("ADMIN", roles.get(0).getRoleName());
+    }
+    
+    @Test
+    void loginActivityFlush_ShouldUpdateUserById() {
+        Long id = persist("Heidi", "heidi@example.com");
+        
+        loginActivityRecorder.record(id);
+        loginActivityRecorder.record(id);
+        loginActivityRecorder.flush();
+        
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT login_count FROM users WHERE username_key = 'heidi'", Long.class));
+    }
+    
+    @Test
+    void bulkRoles_ShouldGrantAndRevokeOnlyExistingIds() {
+        Long id = persist("Ivan", "ivan@example.com");
+        Long roleId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'ADMIN'", Long.class);
+        
+        assertEquals(List.of(id), userRoleBulkRepository.findUserIds(id - 1, id + 1000, 10));
+        assertEquals(List.of(id), userRoleBulkRepository.grant(roleId, List.of(id, id + 1000)));
+        assertEquals(List.of(), userRoleBulkRepository.grant(roleId, List.of(id)));
+        assertEquals(List.of(id), userRoleBulkRepository.revoke(roleId, List.of(id)));
+    }
+    
+    private Long persist(String username, String email) {
+        User user = userRepository.saveAndFlush(User.builder()
+                .username(username)
+                .email(email)
+                .password("hash")
+                .build());
+        entityManager.clear();
+        return user.getId();
+    }
+}
@@ -1,13 +1,17 @@
 package com.dvlprmatheus.security.service;
 
+import com.dvlprmatheus.security.api.exception.AccountLockedException;
 import com.dvlprmatheus.security.api.exception.AuthenticationFailedException;
 import com.dvlprmatheus.security.api.exception.EmailAlreadyExistsException;
 import com.dvlprmatheus.security.api.exception.UsernameAlreadyExistsException;
 import com.dvlprmatheus.security.api.request.LoginRequest;
 import com.dvlprmatheus.security.api.request.RegisterRequest;
 import com.dvlprmatheus.security.api.response.AuthResponse;
+import com.dvlprmatheus.security.entity.Role;
 import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.repository.RoleRepository;
 import com.dvlprmatheus.security.repository.UserRepository;
+import com.dvlprmatheus.security.service.event.UsersChangedEvent;
 import com.dvlprmatheus.security.utils.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,6 +27,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -33,6 +40,9 @@ class AuthenticationServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private RoleRepository roleRepository;
+    
     @Mock
     private PasswordEncoder passwordEncoder;
     
@@ -42,6 +52,24 @@ class AuthenticationServiceTest {
     @Mock
     private JwtUtil jwtUtil;
     
+    @Mock
+    private AvailabilityService availabilityService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private AuthenticationFailureMonitor failureMonitor;
+    
+    @Mock
+    private LoginAttemptService loginAttemptService;
+    
+    @Mock
+    private LoginActivityRecorder loginActivityRecorder;
+    
+    @Mock
+    private RegistrationBatcher registrationBatcher;
+    
     @InjectMocks
     private AuthenticationService authenticationService;
     
@@ -67,6 +95,7 @@ class AuthenticationServiceTest {
                 .email("test@example.com")
                 .password("encodedPassword")
                 .build();
+        user.setId(1L);
     }
     
     @Test
@@ -74,6 +103,9 @@ class AuthenticationServiceTest {
         when(userRepository.existsByUsername(anyString())).thenReturn(false);
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        Role defaultRole = new Role();
+        defaultRole.setName("USER");
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(defaultRole));
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(jwtUtil.generateToken(any(User.class))).thenReturn("jwt-token");
         
@@ -87,8 +119,44 @@ class AuthenticationServiceTest {
         verify(userRepository).existsByUsername("testuser");
         verify(userRepository).existsByEmail("test@example.com");
         verify(passwordEncoder).encode("password123");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).save(argThat(saved -> saved.getRoles().contains(defaultRole)));
         verify(jwtUtil).generateToken(any(User.class));
+        verify(availabilityService).record("testuser", "test@example.com");
+        verify(eventPublisher).publishEvent(any(UsersChangedEvent.class));
+    }
+    
+    @Test
+    void register_ShouldInsertThroughBatcher_WhenGroupCommitIsEnabled() {
+        when(userRepository.existsByUsername(anyString())).thenReturn(false);
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(registrationBatcher.isEnabled()).thenReturn(true);
+        when(registrationBatcher.register(any(User.class))).thenReturn(user);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn("jwt-token");
+        
+        AuthResponse response = authenticationService.register(registerRequest);
+        
+        assertEquals("jwt-token", response.getToken());
+        verify(registrationBatcher).register(any(User.class));
+        verify(userRepository, never()).save(any(User.class));
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(availabilityService).record("testuser", "test@example.com");
+    }
+    
+    @Test
+    void register_ShouldRecordConflict_WhenBatcherReportsTakenEmail() {
+        when(userRepository.existsByUsername(anyString())).thenReturn(false);
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(registrationBatcher.isEnabled()).thenReturn(true);
+        when(registrationBatcher.register(any(User.class))).thenThrow(new EmailAlreadyExistsException("test@example.com"));
+        
+        assertThrows(EmailAlreadyExistsException.class, () -> {
+            authenticationService.register(registerRequest);
+        });
+        
+        verify(failureMonitor).record(AuthenticationFailureMonitor.Failure.EMAIL_TAKEN, "test@example.com");
+        verify(jwtUtil, never()).generateToken(any(User.class));
     }
     
     @Test
@@ -135,6 +203,20 @@ class AuthenticationServiceTest {
         
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtUtil).generateToken(any(User.class));
+        verify(loginAttemptService).recordSuccess("testuser");
+        verify(loginActivityRecorder).record(1L);
+    }
+    
+    @Test
+    void login_ShouldNotAuthenticate_WhenAccountIsLocked() {
+        doThrow(new AccountLockedException(30)).when(loginAttemptService).checkAllowed("testuser");
+        
+        assertThrows(AccountLockedException.class, () -> {
+            authenticationService.login(loginRequest);
+        });
+        
+        verify(authenticationManager, never()).authenticate(any());
+        verify(loginAttemptService, never()).recordFailure(anyString());
     }
     
     @Test
@@ -142,11 +224,14 @@ class AuthenticationServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenThrow(new BadCredentialsException("Bad credentials"));
         
-        assertThrows(AuthenticationFailedException.class, () -> {
+        AuthenticationFailedException exception = assertThrows(AuthenticationFailedException.class, () -> {
             authenticationService.login(loginRequest);
         });
         
+        assertSame(AuthenticationFailedException.INVALID_CREDENTIALS, exception);
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        verify(failureMonitor).record(AuthenticationFailureMonitor.Failure.BAD_CREDENTIALS, "testuser");
+        verify(loginAttemptService).recordFailure("testuser");
         verify(jwtUtil, never()).generateToken(any(User.class));
     }
     
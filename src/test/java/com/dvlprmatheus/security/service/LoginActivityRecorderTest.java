@@ -0,0 +1,83 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.config.activity.LoginActivityProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginActivityRecorderTest {
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    private LoginActivityRecorder loginActivityRecorder;
+    
+    @BeforeEach
+    void setUp() {
+        LoginActivityProperties properties = new LoginActivityProperties();
+        properties.setFlushBatchSize(2);
+        loginActivityRecorder = new LoginActivityRecorder(jdbcTemplate, properties);
+    }
+    
+    @Test
+    void flush_ShouldCoalesceLoginsPerUserIntoSingleUpdate() {
+        loginActivityRecorder.record(1L);
+        loginActivityRecorder.record(1L);
+        loginActivityRecorder.record(1L);
+        loginActivityRecorder.record(2L);
+        
+        loginActivityRecorder.flush();
+        loginActivityRecorder.flush();
+        
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), args.capture());
+        assertTrue(sql.getValue().contains("FROM (VALUES"));
+        assertEquals(6, args.getValue().length);
+        for (int i = 0; i < 6; i += 3) {
+            assertEquals(args.getValue()[i].equals(1L) ? 3L : 1L, args.getValue()[i + 2]);
+        }
+        assertEquals(0, loginActivityRecorder.pendingCount());
+    }
+    
+    @Test
+    void flush_ShouldSplitIntoBatches() {
+        loginActivityRecorder.record(1L);
+        loginActivityRecorder.record(2L);
+        loginActivityRecorder.record(3L);
+        
+        loginActivityRecorder.flush();
+        
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+    }
+    
+    @Test
+    void flush_ShouldKeepPendingLogins_WhenDatabaseIsUnavailable() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        loginActivityRecorder.record(1L);
+        
+        loginActivityRecorder.flush();
+        loginActivityRecorder.record(1L);
+        
+        assertEquals(1, loginActivityRecorder.pendingCount());
+    }
+    
+    @Test
+    void flush_ShouldNotTouchDatabase_WhenNothingIsPending() {
+        loginActivityRecorder.flush();
+        
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
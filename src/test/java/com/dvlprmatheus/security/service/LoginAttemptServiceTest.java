@@ -0,0 +1,156 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.AccountLockedException;
+import com.dvlprmatheus.security.config.lockout.LoginLockoutProperties;
+import com.dvlprmatheus.security.service.cache.UserCacheNotifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptServiceTest {
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private UserCacheNotifier userCacheNotifier;
+    
+    private LoginAttemptService loginAttemptService;
+    
+    @BeforeEach
+    void setUp() {
+        LoginLockoutProperties properties = new LoginLockoutProperties();
+        properties.setMaxFailures(3);
+        properties.setBaseLockSeconds(30L);
+        properties.setMaxLockSeconds(300L);
+        properties.setResetAfterSeconds(900L);
+        properties.setFlushBatchSize(500);
+        loginAttemptService = new LoginAttemptService(jdbcTemplate, properties, userCacheNotifier);
+    }
+    
+    @Test
+    void checkAllowed_ShouldThrowAccountLockedException_AfterMaxFailures() {
+        loginAttemptService.recordFailure("testuser");
+        loginAttemptService.recordFailure("testuser");
+        loginAttemptService.checkAllowed("testuser");
+        
+        loginAttemptService.recordFailure("testuser");
+        
+        AccountLockedException exception = assertThrows(AccountLockedException.class, () -> {
+            loginAttemptService.checkAllowed("testuser");
+        });
+        assertTrue(exception.getRetryAfterSeconds() > 0 && exception.getRetryAfterSeconds() <= 30);
+        assertTrue(loginAttemptService.isLocked("testuser"));
+        assertFalse(loginAttemptService.isLocked("otheruser"));
+    }
+    
+    @Test
+    void checkAllowed_ShouldIgnoreUsernameCase() {
+        loginAttemptService.recordFailure("TestUser");
+        loginAttemptService.recordFailure("testuser");
+        loginAttemptService.recordFailure("TESTUSER");
+        
+        assertThrows(AccountLockedException.class, () -> {
+            loginAttemptService.checkAllowed("testUser");
+        });
+    }
+    
+    @Test
+    void lockDurationMillis_ShouldGrowExponentiallyAndBeCapped() {
+        assertEquals(0, loginAttemptService.lockDurationMillis(2));
+        assertEquals(30_000, loginAttemptService.lockDurationMillis(3));
+        assertEquals(60_000, loginAttemptService.lockDurationMillis(4));
+        assertEquals(120_000, loginAttemptService.lockDurationMillis(5));
+        assertEquals(300_000, loginAttemptService.lockDurationMillis(7));
+        assertEquals(300_000, loginAttemptService.lockDurationMillis(1_000));
+    }
+    
+    @Test
+    void recordSuccess_ShouldResetFailures() {
+        loginAttemptService.recordFailure("testuser");
+        loginAttemptService.recordFailure("testuser");
+        
+        loginAttemptService.recordSuccess("testuser");
+        loginAttemptService.recordFailure("testuser");
+        loginAttemptService.recordFailure("testuser");
+        
+        assertFalse(loginAttemptService.isLocked("testuser"));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldBatchDirtyAccountsIntoSingleUpdate() {
+        loginAttemptService.recordFailure("alice");
+        loginAttemptService.recordFailure("bob");
+        loginAttemptService.recordFailure("bob");
+        
+        loginAttemptService.flush();
+        loginAttemptService.flush();
+        
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batch.capture(), any(int[].class));
+        assertEquals(2, batch.getValue().size());
+    }
+    
+    @Test
+    void flush_ShouldInvalidateCachedUser_WhenLockIsWritten() {
+        loginAttemptService.recordFailure("alice");
+        loginAttemptService.recordFailure("Bob");
+        loginAttemptService.recordFailure("bob");
+        loginAttemptService.recordFailure("bob");
+        
+        loginAttemptService.flush();
+        
+        verify(userCacheNotifier).publishUsername("bob");
+        verifyNoMoreInteractions(userCacheNotifier);
+    }
+    
+    @Test
+    void flush_ShouldNotInvalidateCachedUser_WhenLockIsNotPersisted() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), any(int[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        loginAttemptService.recordFailure("bob");
+        loginAttemptService.recordFailure("bob");
+        loginAttemptService.recordFailure("bob");
+        
+        loginAttemptService.flush();
+        
+        verifyNoInteractions(userCacheNotifier);
+    }
+    
+    @Test
+    void recordSuccess_ShouldNotWrite_WhenAccountHasNoFailures() {
+        loginAttemptService.recordSuccess("testuser");
+        
+        loginAttemptService.flush();
+        
+        verifyNoInteractions(jdbcTemplate);
+    }
+    
+    @Test
+    void flush_ShouldRetry_WhenDatabaseIsUnavailable() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), any(int[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[]{1});
+        loginAttemptService.recordFailure("testuser");
+        
+        loginAttemptService.flush();
+        loginAttemptService.flush();
+        
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList(), any(int[].class));
+    }
+}
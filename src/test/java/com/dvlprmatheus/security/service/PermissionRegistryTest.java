@@ -0,0 +1,59 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.entity.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionRegistryTest {
+    
+    @Test
+    void closure_ShouldInheritPermissionsTransitively() {
+        Map<String, Long> masks = PermissionRegistry.closure(
+                Map.of("ADMIN", 0b1000L, "SUPPORT", 0b0100L, "USER", 0b0001L, "GUEST", 0L),
+                Map.of("ADMIN", Set.of("SUPPORT"), "SUPPORT", Set.of("USER")));
+        
+        assertEquals(0b1101L, masks.get("ADMIN"));
+        assertEquals(0b0101L, masks.get("SUPPORT"));
+        assertEquals(0b0001L, masks.get("USER"));
+        assertEquals(0L, masks.get("GUEST"));
+    }
+    
+    @Test
+    void closure_ShouldTerminate_WhenHierarchyHasCycles() {
+        Map<String, Long> masks = PermissionRegistry.closure(
+                Map.of("A", 1L, "B", 2L, "C", 4L),
+                Map.of("A", Set.of("B"), "B", Set.of("C"), "C", Set.of("A")));
+        
+        assertEquals(7L, masks.get("A"));
+        assertEquals(7L, masks.get("B"));
+        assertEquals(7L, masks.get("C"));
+    }
+    
+    @Test
+    void snapshot_ShouldMarkUnknownRequiredPermissions_AndIgnoreUnknownGrants() {
+        PermissionRegistry.Snapshot snapshot = new PermissionRegistry.Snapshot(Map.of("ADMIN", 6L), Map.of("users:read", 2L));
+        
+        assertEquals(2L, snapshot.requiredMask(List.of("users:read")));
+        assertEquals(2L | PermissionRegistry.UNRESOLVED, snapshot.requiredMask(List.of("users:read", "users:delete")));
+        assertEquals(0L, snapshot.grantedMask("users:delete"));
+        assertEquals(0L, snapshot.roleMask("UNKNOWN"));
+    }
+    
+    @Test
+    void masks_ShouldBeZero_BeforePermissionsAreLoaded() {
+        PermissionRegistry registry = new PermissionRegistry(new JdbcTemplate());
+        Role admin = new Role();
+        admin.setName("ADMIN");
+        
+        assertEquals(0L, registry.maskForRoles(List.of(admin)));
+        assertEquals(0L, registry.maskForAuthorities(List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        assertEquals(0L, registry.maskForScopes(Set.of("users:read")));
+    }
+}
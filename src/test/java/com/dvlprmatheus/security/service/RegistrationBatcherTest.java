@@ -0,0 +1,158 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.EmailAlreadyExistsException;
+import com.dvlprmatheus.security.api.exception.UsernameAlreadyExistsException;
+import com.dvlprmatheus.security.config.registration.RegistrationBatchProperties;
+import com.dvlprmatheus.security.entity.User;
+import com.dvlprmatheus.security.repository.UserBatchInsertRepository;
+import com.dvlprmatheus.security.repository.UserBatchInsertRepository.InsertResult;
+import com.dvlprmatheus.security.service.RegistrationBatcher.PendingRegistration;
+import com.dvlprmatheus.security.service.event.UsersChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegistrationBatcherTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+    
+    @Mock
+    private UserBatchInsertRepository userBatchInsertRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private RegistrationBatchProperties properties;
+    private RegistrationBatcher registrationBatcher;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new RegistrationBatchProperties();
+        properties.setEnabled(true);
+        properties.setMaxBatchSize(100);
+        properties.setMaxWaitMillis(2L);
+        properties.setQueueCapacity(1000);
+        registrationBatcher = new RegistrationBatcher(userBatchInsertRepository, properties, eventPublisher);
+    }
+    
+    @Test
+    void flush_ShouldInsertBatchInOneStatement_AndRejectDuplicatesWithinBatch() {
+        List<PendingRegistration> batch = List.of(
+                pending("alice", "alice@example.com"),
+                pending("ALICE", "other@example.com"),
+                pending("bob", "Alice@Example.com"),
+                pending("carol", "carol@example.com"));
+        when(userBatchInsertRepository.insertAll(anyList())).thenReturn(List.of(
+                new InsertResult(0, 10L, NOW, false),
+                new InsertResult(1, 11L, NOW, false)));
+        
+        registrationBatcher.flush(batch);
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        verify(userBatchInsertRepository).insertAll(users.capture());
+        assertEquals(List.of("alice", "carol"), users.getValue().stream().map(User::getUsername).toList());
+        
+        assertEquals(10L, batch.get(0).result().join().getId());
+        assertEquals(NOW, batch.get(0).result().join().getCreatedAt());
+        assertFailsWith(UsernameAlreadyExistsException.class, batch.get(1));
+        assertFailsWith(EmailAlreadyExistsException.class, batch.get(2));
+        assertEquals(11L, batch.get(3).result().join().getId());
+        verify(eventPublisher).publishEvent(new UsersChangedEvent(List.of(10L, 11L)));
+    }
+    
+    @Test
+    void flush_ShouldReportConflicts_ForRowsSkippedByTheDatabase() {
+        List<PendingRegistration> batch = List.of(
+                pending("taken", "free@example.com"),
+                pending("free", "taken@example.com"));
+        when(userBatchInsertRepository.insertAll(anyList())).thenReturn(List.of(
+                new InsertResult(0, null, null, false),
+                new InsertResult(1, null, null, true)));
+        
+        registrationBatcher.flush(batch);
+        
+        assertFailsWith(UsernameAlreadyExistsException.class, batch.get(0));
+        assertFailsWith(EmailAlreadyExistsException.class, batch.get(1));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+    
+    @Test
+    void flush_ShouldRetryOneByOne_WhenBatchedInsertFails() {
+        List<PendingRegistration> batch = List.of(
+                pending("alice", "alice@example.com"),
+                pending("bob", "bob@example.com"));
+        when(userBatchInsertRepository.insertAll(anyList()))
+                .thenThrow(new DuplicateKeyException("pk_user_emails"))
+                .thenReturn(List.of(new InsertResult(0, 10L, NOW, false)))
+                .thenThrow(new DuplicateKeyException("pk_user_emails"));
+        
+        registrationBatcher.flush(batch);
+        
+        verify(userBatchInsertRepository, times(3)).insertAll(anyList());
+        assertEquals(10L, batch.get(0).result().join().getId());
+        assertFailsWith(EmailAlreadyExistsException.class, batch.get(1));
+    }
+    
+    @Test
+    void register_ShouldGroupConcurrentCallers_WhenStarted() throws Exception {
+        when(userBatchInsertRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            List<InsertResult> results = new ArrayList<>();
+            for (int i = 0; i < users.size(); i++) {
+                results.add(new InsertResult(i, 100L + Long.parseLong(users.get(i).getUsername().substring(4)), NOW, false));
+            }
+            return results;
+        });
+        registrationBatcher.start();
+        try {
+            List<CompletableFuture<User>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                User user = user("user" + i, "user" + i + "@example.com");
+                results.add(CompletableFuture.supplyAsync(() -> registrationBatcher.register(user)));
+            }
+            for (int i = 0; i < 20; i++) {
+                assertEquals(100L + i, results.get(i).get().getId());
+            }
+        } finally {
+            registrationBatcher.stop();
+        }
+        
+        assertFalse(registrationBatcher.isEnabled());
+        verify(userBatchInsertRepository, atMost(20)).insertAll(anyList());
+    }
+    
+    private static PendingRegistration pending(String username, String email) {
+        return new PendingRegistration(user(username, email), new CompletableFuture<>());
+    }
+    
+    private static User user(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("encodedPassword")
+                .build();
+    }
+    
+    private static void assertFailsWith(Class<? extends Exception> type, PendingRegistration pending) {
+        CompletionException exception = assertThrows(CompletionException.class, () -> pending.result().join());
+        assertInstanceOf(type, exception.getCause());
+    }
+}
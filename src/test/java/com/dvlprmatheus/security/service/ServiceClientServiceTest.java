@@ -0,0 +1,105 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.AuthenticationFailedException;
+import com.dvlprmatheus.security.api.exception.InvalidScopeException;
+import com.dvlprmatheus.security.api.request.ClientTokenRequest;
+import com.dvlprmatheus.security.api.response.ClientTokenResponse;
+import com.dvlprmatheus.security.config.client.ServiceClientProperties;
+import com.dvlprmatheus.security.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceClientServiceTest {
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private JwtUtil jwtUtil;
+    
+    @Mock
+    private AuthenticationFailureMonitor failureMonitor;
+    
+    private ServiceClientService serviceClientService;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        ServiceClientProperties properties = new ServiceClientProperties();
+        properties.setTokenTtlSeconds(600L);
+        properties.setRefreshIntervalMillis(60000L);
+        serviceClientService = new ServiceClientService(jdbcTemplate, jwtUtil, properties, failureMonitor);
+        
+        ResultSet row = mock(ResultSet.class);
+        when(row.getString("client_id")).thenReturn("billing-job");
+        when(row.getString("secret_hash")).thenReturn(HexFormat.of().formatHex(ServiceClientService.sha256("s3cr3t")));
+        when(row.getString("scopes")).thenReturn("users:read  users:write");
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        serviceClientService.refresh();
+    }
+    
+    @Test
+    void issueToken_ShouldMintTokenWithAllScopes_WhenSecretMatches() {
+        when(jwtUtil.generateClientToken("billing-job", "users:read users:write", 600_000L)).thenReturn("client-token");
+        
+        ClientTokenResponse response = serviceClientService.issueToken(request("billing-job", "s3cr3t", null));
+        
+        assertEquals("client-token", response.getToken());
+        assertEquals("Bearer", response.getType());
+        assertEquals("users:read users:write", response.getScope());
+        assertEquals(600L, response.getExpiresIn());
+        assertTrue(serviceClientService.isActive("billing-job"));
+    }
+    
+    @Test
+    void issueToken_ShouldNarrowScope_WhenSubsetIsRequested() {
+        when(jwtUtil.generateClientToken(eq("billing-job"), eq("users:read"), anyLong())).thenReturn("client-token");
+        
+        ClientTokenResponse response = serviceClientService.issueToken(request("billing-job", "s3cr3t", "users:read"));
+        
+        assertEquals("users:read", response.getScope());
+    }
+    
+    @Test
+    void issueToken_ShouldReject_WhenSecretOrClientIsWrong() {
+        assertSame(AuthenticationFailedException.INVALID_CLIENT, assertThrows(AuthenticationFailedException.class,
+                () -> serviceClientService.issueToken(request("billing-job", "wrong", null))));
+        assertSame(AuthenticationFailedException.INVALID_CLIENT, assertThrows(AuthenticationFailedException.class,
+                () -> serviceClientService.issueToken(request("unknown", "s3cr3t", null))));
+        
+        verify(failureMonitor, times(2)).record(eq(AuthenticationFailureMonitor.Failure.INVALID_CLIENT), anyString());
+        verify(jwtUtil, never()).generateClientToken(anyString(), anyString(), anyLong());
+    }
+    
+    @Test
+    void issueToken_ShouldReject_WhenScopeIsNotGranted() {
+        assertThrows(InvalidScopeException.class,
+                () -> serviceClientService.issueToken(request("billing-job", "s3cr3t", "users:read admin")));
+    }
+    
+    private ClientTokenRequest request(String clientId, String secret, String scope) {
+        return ClientTokenRequest.builder()
+                .clientId(clientId)
+                .clientSecret(secret)
+                .scope(scope)
+                .build();
+    }
+}
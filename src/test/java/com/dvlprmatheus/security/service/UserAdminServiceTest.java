@@ -0,0 +1,139 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.request.BulkRoleRequest;
+import com.dvlprmatheus.security.api.response.BulkRoleResponse;
+import com.dvlprmatheus.security.config.admin.BulkRoleProperties;
+import com.dvlprmatheus.security.entity.Role;
+import com.dvlprmatheus.security.repository.RoleRepository;
+import com.dvlprmatheus.security.repository.UserRepository;
+import com.dvlprmatheus.security.repository.UserRoleBulkRepository;
+import com.dvlprmatheus.security.service.event.UsersChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAdminServiceTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private RoleRepository roleRepository;
+    
+    @Mock
+    private UserRoleBulkRepository userRoleBulkRepository;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private UserAdminService userAdminService;
+    
+    @BeforeEach
+    void setUp() {
+        BulkRoleProperties properties = new BulkRoleProperties();
+        properties.setChunkSize(3);
+        userAdminService = new UserAdminService(userRepository, roleRepository, userRoleBulkRepository,
+                properties, transactionTemplate, eventPublisher);
+        
+        Role role = new Role();
+        role.setId(2L);
+        role.setName("ADMIN");
+        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(role));
+    }
+    
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+    
+    @Test
+    void changeRole_ShouldSeekOverExistingIds_WhenRangeIsSparse() {
+        runTransactionsInline();
+        when(userRoleBulkRepository.findUserIds(9L, 9_000_000_000_000L, 3)).thenReturn(List.of(10L, 11L, 500L));
+        when(userRoleBulkRepository.findUserIds(500L, 9_000_000_000_000L, 3)).thenReturn(List.of(7_000L));
+        when(userRoleBulkRepository.grant(eq(2L), anyCollection())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(1)));
+        
+        BulkRoleResponse response = userAdminService.changeRole("admin",
+                BulkRoleRequest.builder().fromId(10L).toId(9_000_000_000_000L).build(), true);
+        
+        assertEquals(2, response.getChunks().size());
+        assertEquals(10L, response.getChunks().get(0).getFromId());
+        assertEquals(500L, response.getChunks().get(0).getToId());
+        assertEquals(7_000L, response.getChunks().get(1).getFromId());
+        assertEquals(7_000L, response.getChunks().get(1).getToId());
+        assertEquals(4, response.getTotalAffected());
+        verify(userRoleBulkRepository).grant(2L, List.of(10L, 11L, 500L));
+        verify(userRoleBulkRepository).grant(2L, List.of(7_000L));
+        verify(userRoleBulkRepository, times(2)).findUserIds(anyLong(), anyLong(), anyInt());
+        verify(eventPublisher, times(2)).publishEvent(any(UsersChangedEvent.class));
+    }
+    
+    @Test
+    void changeRole_ShouldProbeOnceMore_WhenLastChunkIsExactlyFull() {
+        runTransactionsInline();
+        when(userRoleBulkRepository.findUserIds(0L, 6L, 3)).thenReturn(List.of(1L, 2L, 3L));
+        when(userRoleBulkRepository.findUserIds(3L, 6L, 3)).thenReturn(List.of(4L, 5L, 6L));
+        when(userRoleBulkRepository.findUserIds(6L, 6L, 3)).thenReturn(List.of());
+        when(userRoleBulkRepository.revoke(eq(2L), anyCollection())).thenReturn(List.of());
+        
+        BulkRoleResponse response = userAdminService.changeRole("ADMIN",
+                BulkRoleRequest.builder().fromId(1L).toId(6L).build(), false);
+        
+        assertEquals(2, response.getChunks().size());
+        assertEquals(4L, response.getChunks().get(1).getFromId());
+        assertEquals(6L, response.getChunks().get(1).getToId());
+        assertEquals(0, response.getTotalAffected());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+    
+    @Test
+    void changeRole_ShouldReturnNoChunks_WhenRangeHasNoUsers() {
+        when(userRoleBulkRepository.findUserIds(99L, 200L, 3)).thenReturn(List.of());
+        
+        BulkRoleResponse response = userAdminService.changeRole("ADMIN",
+                BulkRoleRequest.builder().fromId(100L).toId(200L).build(), true);
+        
+        assertTrue(response.getChunks().isEmpty());
+        verifyNoInteractions(transactionTemplate);
+    }
+    
+    @Test
+    void changeRole_ShouldSplitExplicitIdsIntoChunks() {
+        runTransactionsInline();
+        when(userRoleBulkRepository.grant(eq(2L), anyCollection())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(1)));
+        
+        BulkRoleResponse response = userAdminService.changeRole("ADMIN",
+                BulkRoleRequest.builder().userIds(List.of(5L, 1L, 3L, 1L, 9L)).build(), true);
+        
+        assertEquals(2, response.getChunks().size());
+        verify(userRoleBulkRepository).grant(2L, List.of(1L, 3L, 5L));
+        verify(userRoleBulkRepository).grant(2L, List.of(9L));
+        verify(userRoleBulkRepository, never()).findUserIds(anyLong(), anyLong(), anyInt());
+    }
+    
+    @Test
+    void changeRole_ShouldRejectInvertedOrIncompleteRange() {
+        assertThrows(IllegalArgumentException.class, () -> userAdminService.changeRole("ADMIN",
+                BulkRoleRequest.builder().fromId(10L).toId(5L).build(), true));
+        assertThrows(IllegalArgumentException.class, () -> userAdminService.changeRole("ADMIN",
+                BulkRoleRequest.builder().fromId(10L).build(), true));
+        verifyNoInteractions(userRoleBulkRepository);
+    }
+}
@@ -0,0 +1,91 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.ChangeCursorExpiredException;
+import com.dvlprmatheus.security.api.response.UserChangePageResponse;
+import com.dvlprmatheus.security.api.response.UserChangeResponse;
+import com.dvlprmatheus.security.config.changes.UserChangeFeedProperties;
+import com.dvlprmatheus.security.repository.UserChangeRepository;
+import com.dvlprmatheus.security.repository.UserChangeRepository.Position;
+import com.dvlprmatheus.security.repository.UserChangeRepository.UserChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeFeedServiceTest {
+    
+    @Mock
+    private UserChangeRepository userChangeRepository;
+    
+    private UserChangeFeedProperties properties;
+    private UserChangeFeedService userChangeFeedService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new UserChangeFeedProperties();
+        properties.setRetentionHours(168);
+        properties.setPruneBatchSize(2);
+        userChangeFeedService = new UserChangeFeedService(userChangeRepository, properties);
+    }
+    
+    @Test
+    void listChanges_ShouldReturnPageAndCursorOfLastChange_WhenMoreChangesExist() {
+        Position position = new Position("900", 10L);
+        when(userChangeRepository.findPosition(10L)).thenReturn(Optional.of(position));
+        when(userChangeRepository.findAfter(position, 3)).thenReturn(List.of(
+                change(12L, "901", "USER_CREATED", null),
+                change(11L, "902", "ROLE_GRANTED", "USER"),
+                change(13L, "902", "ROLE_GRANTED", "ADMIN")));
+        
+        UserChangePageResponse page = userChangeFeedService.listChanges(10L, 2);
+        
+        assertEquals(List.of(12L, 11L), page.getChanges().stream().map(UserChangeResponse::getSeq).toList());
+        assertEquals("USER", page.getChanges().get(1).getRole());
+        assertEquals(11L, page.getNextCursor());
+        assertTrue(page.getHasMore());
+    }
+    
+    @Test
+    void listChanges_ShouldStartFromOldestAndKeepCursor_WhenNothingIsNew() {
+        when(userChangeRepository.findAfter(null, 101)).thenReturn(List.of());
+        
+        UserChangePageResponse page = userChangeFeedService.listChanges(0L, 100);
+        
+        assertTrue(page.getChanges().isEmpty());
+        assertEquals(0L, page.getNextCursor());
+        assertFalse(page.getHasMore());
+        verify(userChangeRepository, never()).findPosition(anyLong());
+    }
+    
+    @Test
+    void listChanges_ShouldThrowCursorExpired_WhenCursorWasPruned() {
+        when(userChangeRepository.findPosition(5L)).thenReturn(Optional.empty());
+        
+        assertThrows(ChangeCursorExpiredException.class, () -> userChangeFeedService.listChanges(5L, 100));
+        verify(userChangeRepository, never()).findAfter(any(), anyInt());
+    }
+    
+    @Test
+    void prune_ShouldDeleteInBatches_UntilABatchIsNotFull() {
+        when(userChangeRepository.deleteChangedBefore(any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+        
+        userChangeFeedService.prune();
+        
+        verify(userChangeRepository, times(3)).deleteChangedBefore(any(LocalDateTime.class), eq(2));
+    }
+    
+    static UserChange change(long seq, String txId, String type, String role) {
+        return new UserChange(seq, txId, 42L, type, role, LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+}
@@ -0,0 +1,127 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.exception.ChangeStreamUnavailableException;
+import com.dvlprmatheus.security.config.changes.UserChangeFeedProperties;
+import com.dvlprmatheus.security.repository.UserChangeRepository;
+import com.dvlprmatheus.security.repository.UserChangeRepository.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.dvlprmatheus.security.service.UserChangeFeedServiceTest.change;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeStreamServiceTest {
+    
+    @Mock
+    private UserChangeRepository userChangeRepository;
+    
+    private UserChangeFeedProperties properties;
+    private UserChangeStreamService userChangeStreamService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new UserChangeFeedProperties();
+        properties.setStreamBatchSize(500);
+        properties.setStreamHeartbeatMillis(15000L);
+        properties.setStreamTimeoutMillis(60000L);
+        properties.setStreamMaxSubscribers(2);
+        UserChangeFeedService feedService = new UserChangeFeedService(userChangeRepository, properties);
+        userChangeStreamService = new UserChangeStreamService(feedService, userChangeRepository, properties);
+    }
+    
+    @Test
+    void poll_ShouldQueryOncePerPosition_AndAdvanceSubscribersTogether() {
+        userChangeStreamService.subscribe(0L);
+        userChangeStreamService.subscribe(0L);
+        when(userChangeRepository.findAfter(null, 500)).thenReturn(List.of(
+                change(7L, "900", "USER_CREATED", null),
+                change(8L, "900", "ROLE_GRANTED", "USER")));
+        Position last = new Position("900", 8L);
+        when(userChangeRepository.findAfter(last, 500)).thenReturn(List.of());
+        
+        userChangeStreamService.poll(System.nanoTime());
+        userChangeStreamService.poll(System.nanoTime());
+        
+        verify(userChangeRepository, times(1)).findAfter(null, 500);
+        verify(userChangeRepository, times(1)).findAfter(last, 500);
+        assertEquals(2, userChangeStreamService.getSubscriberCount());
+    }
+    
+    @Test
+    void poll_ShouldSkipDatabase_WhenNobodyIsSubscribed() {
+        userChangeStreamService.poll(System.nanoTime());
+        
+        verify(userChangeRepository, never()).findAfter(any(), anyInt());
+    }
+    
+    @Test
+    void subscribe_ShouldRejectNewSubscribers_WhenLimitIsReached() {
+        userChangeStreamService.subscribe(0L);
+        userChangeStreamService.subscribe(0L);
+        
+        assertThrows(ChangeStreamUnavailableException.class, () -> userChangeStreamService.subscribe(0L));
+    }
+    
+    @Test
+    void subscribe_ShouldNeverExceedLimit_WhenSubscribingConcurrently() throws Exception {
+        int attempts = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        userChangeStreamService.subscribe(0L);
+                        return true;
+                    } catch (ChangeStreamUnavailableException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    accepted++;
+                }
+            }
+            
+            assertEquals(2, accepted);
+            assertEquals(2, userChangeStreamService.getSubscriberCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void subscribe_ShouldReuseSlot_WhenSubscriberIsDropped() {
+        SseEmitter closed = userChangeStreamService.subscribe(0L);
+        userChangeStreamService.subscribe(0L);
+        closed.complete();
+        when(userChangeRepository.findAfter(null, 500)).thenReturn(List.of(
+                change(7L, "900", "USER_CREATED", null)));
+        
+        userChangeStreamService.poll(System.nanoTime());
+        
+        assertEquals(1, userChangeStreamService.getSubscriberCount());
+        assertNotNull(userChangeStreamService.subscribe(0L));
+        assertThrows(ChangeStreamUnavailableException.class, () -> userChangeStreamService.subscribe(0L));
+    }
+}
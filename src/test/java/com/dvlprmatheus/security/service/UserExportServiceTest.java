@@ -0,0 +1,121 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.config.admin.UserExportProperties;
+import com.dvlprmatheus.security.repository.UserExportRepository;
+import com.dvlprmatheus.security.repository.UserExportRepository.ExportedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceTest {
+    
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+    
+    @Mock
+    private UserExportRepository userExportRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private UserExportService userExportService;
+    
+    @BeforeEach
+    void setUp() {
+        UserExportProperties properties = new UserExportProperties();
+        properties.setFetchSize(2);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        userExportService = new UserExportService(userExportRepository, properties, transactionManager);
+    }
+    
+    @Test
+    void export_ShouldWriteCsv_WithEscapedFieldsInReadOnlyTransaction() {
+        stubUsers(
+                new ExportedUser(1L, "alice", "alice@example.com", new String[]{"ADMIN", "USER"}, CREATED_AT, null, 0L),
+                new ExportedUser(2L, "=cmd", "b\"o,b@example.com", new String[0], CREATED_AT, CREATED_AT, 3L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        long rows = userExportService.export(UserExportService.Format.CSV, out);
+        
+        assertEquals(2, rows);
+        assertEquals("""
+                id,username,email,roles,created_at,last_login_at,login_count
+                1,alice,alice@example.com,ADMIN;USER,2024-01-01T12:00,,0
+                2,"'=cmd","b""o,b@example.com",,2024-01-01T12:00,2024-01-01T12:00,3
+                """, out.toString(StandardCharsets.UTF_8));
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
+    }
+    
+    @Test
+    void export_ShouldWriteOneJsonObjectPerLine_WhenFormatIsNdjson() {
+        stubUsers(new ExportedUser(1L, "al\"ice", "alice@example.com", new String[]{"USER"}, CREATED_AT, null, 0L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        userExportService.export(UserExportService.Format.NDJSON, out);
+        
+        assertEquals("{\"id\":1,\"username\":\"al\\\"ice\",\"email\":\"alice@example.com\",\"roles\":[\"USER\"],"
+                + "\"createdAt\":\"2024-01-01T12:00\",\"lastLoginAt\":null,\"loginCount\":0}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void export_ShouldStopReadingAndRollBack_WhenClientDisconnects() {
+        int[] produced = {0};
+        doAnswer(invocation -> {
+            Consumer<ExportedUser> consumer = invocation.getArgument(1);
+            for (long id = 1; id <= 1000; id++) {
+                produced[0]++;
+                consumer.accept(new ExportedUser(id, "user" + id, "user" + id + "@example.com", new String[0], CREATED_AT, null, 0L));
+            }
+            return null;
+        }).when(userExportRepository).forEach(anyInt(), any());
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+            
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        
+        long rows = userExportService.export(UserExportService.Format.NDJSON, disconnected);
+        
+        assertEquals(2, rows);
+        assertEquals(2, produced[0]);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void stubUsers(ExportedUser... users) {
+        doAnswer(invocation -> {
+            Consumer<ExportedUser> consumer = invocation.getArgument(1);
+            for (ExportedUser user : users) {
+                consumer.accept(user);
+            }
+            return null;
+        }).when(userExportRepository).forEach(eq(2), any(Consumer.class));
+    }
+}
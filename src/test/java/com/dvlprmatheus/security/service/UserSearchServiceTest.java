@@ -0,0 +1,123 @@
+package com.dvlprmatheus.security.service;
+
+import com.dvlprmatheus.security.api.response.UserSearchResponse;
+import com.dvlprmatheus.security.config.search.UserSearchProperties;
+import com.dvlprmatheus.security.repository.UserRepository;
+import com.dvlprmatheus.security.repository.projection.UserSearchHit;
+import com.dvlprmatheus.security.service.cache.UserSearchCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchServiceTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private UserSearchProperties properties;
+    private UserSearchCache cache;
+    private UserSearchService userSearchService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new UserSearchProperties();
+        properties.setFuzzyMinLength(3);
+        properties.setCacheMaxEntries(2);
+        properties.setCacheTtlSeconds(30L);
+        cache = new UserSearchCache(properties);
+        userSearchService = new UserSearchService(userRepository, properties, cache);
+    }
+    
+    @Test
+    void search_ShouldRankPrefixMatchesFirst_AndFillWithSimilarUsers() {
+        when(userRepository.searchByPrefix("joh%", 3)).thenReturn(List.of(
+                hit(1L, "john", 0, 1.0),
+                hit(2L, "johnny", 0, 1.0),
+                hit(1L, "john", 1, 1.0)));
+        when(userRepository.searchBySimilarity("joh", 3)).thenReturn(List.of(
+                hit(2L, "johnny", 2, 0.9),
+                hit(3L, "jon", 2, 0.5)));
+        
+        UserSearchResponse response = userSearchService.search(" JOH ", 3);
+        
+        assertEquals("joh", response.getQuery());
+        assertEquals(List.of(1L, 2L, 3L), response.getUsers().stream().map(UserSearchResponse.Match::getId).toList());
+        assertEquals("USERNAME_PREFIX", response.getUsers().get(0).getMatchedBy());
+        assertEquals("SIMILARITY", response.getUsers().get(2).getMatchedBy());
+    }
+    
+    @Test
+    void search_ShouldSkipSimilarity_WhenPrefixFillsLimitOrTermIsShort() {
+        when(userRepository.searchByPrefix("jo%", 5)).thenReturn(List.of(hit(1L, "john", 0, 1.0)));
+        when(userRepository.searchByPrefix("john%", 1)).thenReturn(List.of(hit(1L, "john", 0, 1.0)));
+        
+        userSearchService.search("jo", 5);
+        userSearchService.search("john", 1);
+        
+        verify(userRepository, never()).searchBySimilarity(anyString(), anyInt());
+    }
+    
+    @Test
+    void search_ShouldEscapeLikeWildcards() {
+        when(userRepository.searchByPrefix("a\\_b\\%c\\\\%", 10)).thenReturn(List.of());
+        when(userRepository.searchBySimilarity("a_b%c\\", 10)).thenReturn(List.of());
+        
+        assertTrue(userSearchService.search("a_b%c\\", 10).getUsers().isEmpty());
+    }
+    
+    @Test
+    void search_ShouldServeRecentPrefixesFromCache_AndEvictLeastRecentlyUsed() {
+        when(userRepository.searchByPrefix(anyString(), anyInt())).thenReturn(List.of(hit(1L, "ab", 0, 1.0)));
+        
+        userSearchService.search("ab", 1);
+        userSearchService.search("ab", 1);
+        userSearchService.search("cd", 1);
+        userSearchService.search("ab", 1);
+        userSearchService.search("ef", 1);
+        userSearchService.search("cd", 1);
+        
+        verify(userRepository, times(1)).searchByPrefix("ab%", 1);
+        verify(userRepository, times(2)).searchByPrefix("cd%", 1);
+        verify(userRepository, times(1)).searchByPrefix("ef%", 1);
+        assertEquals(2, cache.size());
+    }
+    
+    private UserSearchHit hit(Long id, String username, int matchRank, double score) {
+        return new UserSearchHit() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+            
+            @Override
+            public String getUsername() {
+                return username;
+            }
+            
+            @Override
+            public String getEmail() {
+                return username + "@example.com";
+            }
+            
+            @Override
+            public Integer getMatchRank() {
+                return matchRank;
+            }
+            
+            @Override
+            public Double getScore() {
+                return score;
+            }
+        };
+    }
+}
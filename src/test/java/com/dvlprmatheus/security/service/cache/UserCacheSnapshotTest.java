@@ -0,0 +1,63 @@
+package com.dvlprmatheus.security.service.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCacheSnapshotTest {
+    
+    @TempDir
+    private Path directory;
+    
+    private final List<UserCacheSnapshot.Entry> entries = List.of(
+            new UserCacheSnapshot.Entry("alice", 1_700_000_000_000_000L, List.of("ADMIN", "USER")),
+            new UserCacheSnapshot.Entry("jo\u00e3o", Long.MIN_VALUE, List.of()));
+    
+    @Test
+    void read_ShouldReturnWrittenEntries() throws Exception {
+        Path path = directory.resolve("nested/user-cache.snapshot");
+        
+        UserCacheSnapshot.write(path, entries, 42L);
+        Optional<UserCacheSnapshot.Contents> contents = UserCacheSnapshot.read(path);
+        
+        assertTrue(contents.isPresent());
+        assertEquals(42L, contents.get().writtenAt());
+        assertEquals(entries, contents.get().entries());
+    }
+    
+    @Test
+    void read_ShouldDiscardSnapshot_WhenFormatVersionDiffers() throws Exception {
+        Path path = directory.resolve("user-cache.snapshot");
+        UserCacheSnapshot.write(path, entries, 42L);
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putShort(4, (short) (UserCacheSnapshot.FORMAT_VERSION + 1));
+        Files.write(path, bytes);
+        
+        assertTrue(UserCacheSnapshot.read(path).isEmpty());
+        assertFalse(Files.exists(path));
+    }
+    
+    @Test
+    void read_ShouldDiscardSnapshot_WhenCorruptedOrTruncated() throws Exception {
+        Path path = directory.resolve("user-cache.snapshot");
+        UserCacheSnapshot.write(path, entries, 42L);
+        byte[] bytes = Files.readAllBytes(path);
+        
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(path, bytes);
+        assertTrue(UserCacheSnapshot.read(path).isEmpty());
+        
+        Files.write(path, Arrays.copyOf(bytes, 12));
+        assertTrue(UserCacheSnapshot.read(path).isEmpty());
+        
+        assertTrue(UserCacheSnapshot.read(directory.resolve("missing.snapshot")).isEmpty());
+    }
+}
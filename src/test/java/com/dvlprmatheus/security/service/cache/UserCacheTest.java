@@ -0,0 +1,139 @@
+package com.dvlprmatheus.security.service.cache;
+
+import com.dvlprmatheus.security.config.cache.UserCacheProperties;
+import com.dvlprmatheus.security.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCacheTest {
+    
+    private UserCache userCache;
+    private UserCacheInvalidationListener listener;
+    
+    @BeforeEach
+    void setUp() {
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.setEnabled(true);
+        properties.setTtlSeconds(300L);
+        properties.setMaxSize(100);
+        properties.setChannel("user_cache");
+        properties.setReconnectDelayMillis(5000L);
+        userCache = new UserCache(properties);
+        listener = new UserCacheInvalidationListener(userCache, properties);
+        userCache.enable();
+    }
+    
+    private User user(long id, String username) {
+        User user = User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .build();
+        user.setId(id);
+        return user;
+    }
+    
+    @Test
+    void get_ShouldReturnCachedUser_AfterPut() {
+        User user = user(1L, "alice");
+        userCache.put(user, userCache.generation());
+        
+        assertSame(user, userCache.get("alice"));
+        assertEquals(1, userCache.getHits());
+    }
+    
+    @Test
+    void get_ShouldIgnoreUsernameCase_LikeTheDatabaseLookup() {
+        User user = user(1L, "Alice");
+        userCache.put(user, userCache.generation());
+        
+        assertSame(user, userCache.get("alice"));
+        assertSame(user, userCache.get("ALICE"));
+        
+        userCache.evictUsername("aLiCe");
+        
+        assertNull(userCache.get("Alice"));
+    }
+    
+    @Test
+    void hottest_ShouldOrderEntriesByHits() {
+        userCache.put(user(1L, "alice"), userCache.generation());
+        userCache.put(user(2L, "bob"), userCache.generation());
+        userCache.put(user(3L, "carol"), userCache.generation());
+        userCache.get("bob");
+        userCache.get("bob");
+        userCache.get("carol");
+        
+        List<String> hottest = userCache.hottest(2).stream().map(User::getUsername).toList();
+        
+        assertEquals(List.of("bob", "carol"), hottest);
+    }
+    
+    @Test
+    void put_ShouldBeDiscarded_WhenInvalidationHappenedDuringLoad() {
+        long generation = userCache.generation();
+        userCache.evictUsername("alice");
+        
+        userCache.put(user(1L, "alice"), generation);
+        
+        assertNull(userCache.get("alice"));
+    }
+    
+    @Test
+    void get_ShouldReturnNull_WhenCacheIsDisabled() {
+        userCache.put(user(1L, "alice"), userCache.generation());
+        
+        userCache.disable();
+        
+        assertNull(userCache.get("alice"));
+        assertEquals(0, userCache.size());
+    }
+    
+    @Test
+    void apply_ShouldEvictByUsername() {
+        userCache.put(user(1L, "alice"), userCache.generation());
+        userCache.put(user(2L, "bob"), userCache.generation());
+        
+        listener.apply("u:alice");
+        
+        assertNull(userCache.get("alice"));
+        assertNotNull(userCache.get("bob"));
+    }
+    
+    @Test
+    void apply_ShouldEvictByIds() {
+        userCache.put(user(1L, "alice"), userCache.generation());
+        userCache.put(user(2L, "bob"), userCache.generation());
+        userCache.put(user(3L, "carol"), userCache.generation());
+        
+        listener.apply("i:1,3");
+        
+        assertNull(userCache.get("alice"));
+        assertNotNull(userCache.get("bob"));
+        assertNull(userCache.get("carol"));
+    }
+    
+    @Test
+    void apply_ShouldFlushEverything_OnWildcardOrMalformedPayload() {
+        userCache.put(user(1L, "alice"), userCache.generation());
+        listener.apply("*");
+        assertEquals(0, userCache.size());
+        
+        userCache.put(user(2L, "bob"), userCache.generation());
+        listener.apply("i:2,x");
+        assertEquals(0, userCache.size());
+    }
+    
+    @Test
+    void evictIds_ShouldIgnoreUnknownIds() {
+        userCache.put(user(1L, "alice"), userCache.generation());
+        
+        userCache.evictIds(List.of(99L));
+        
+        assertNotNull(userCache.get("alice"));
+    }
+}
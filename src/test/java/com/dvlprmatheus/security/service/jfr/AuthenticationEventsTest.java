@@ -0,0 +1,104 @@
+package com.dvlprmatheus.security.service.jfr;
+
+import com.dvlprmatheus.security.config.security.InstrumentedPasswordEncoder;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationEventsTest {
+    
+    private static final List<String> EVENTS = List.of(
+            "com.dvlprmatheus.security.JwtAuthentication",
+            "com.dvlprmatheus.security.Login",
+            "com.dvlprmatheus.security.Registration",
+            "com.dvlprmatheus.security.UserLoad",
+            "com.dvlprmatheus.security.PasswordHash");
+    
+    @Test
+    void profile_ShouldEnableEveryAuthenticationEvent() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/jfr/auth.jfc"), StandardCharsets.UTF_8)) {
+            Map<String, String> settings = Configuration.create(reader).getSettings();
+            
+            for (String event : EVENTS) {
+                assertEquals("true", settings.get(event + "#enabled"), event);
+                assertEquals("0 ms", settings.get(event + "#threshold"), event);
+            }
+        }
+    }
+    
+    @Test
+    void passwordEncoder_ShouldEmitHashEvents_WhenRecording() throws Exception {
+        InstrumentedPasswordEncoder encoder = new InstrumentedPasswordEncoder(new BCryptPasswordEncoder(4));
+        Path file = Files.createTempFile("auth-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PasswordHashEvent.class).withoutThreshold();
+            recording.start();
+            String encoded = encoder.encode("password123");
+            assertTrue(encoder.matches("password123", encoded));
+            assertFalse(encoder.matches("wrong", encoded));
+            recording.stop();
+            recording.dump(file);
+            
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.dvlprmatheus.security.PasswordHash"))
+                    .toList();
+            
+            assertEquals(List.of("encode", "matches", "matches"),
+                    events.stream().map(event -> event.getString("operation")).toList());
+            assertEquals(List.of(false, true, false),
+                    events.stream().map(event -> event.getBoolean("matched")).toList());
+            assertTrue(events.stream().allMatch(event -> !event.getDuration().isNegative()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void events_ShouldNotBeRecorded_WithDefaultSettings() throws Exception {
+        InstrumentedPasswordEncoder encoder = new InstrumentedPasswordEncoder(new BCryptPasswordEncoder(4));
+        Path file = Files.createTempFile("auth-events", ".jfr");
+        try (Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            recording.start();
+            assertTrue(encoder.matches("password123", encoder.encode("password123")));
+            new JwtAuthenticationEvent().commit();
+            new LoginEvent().commit();
+            new RegistrationEvent().commit();
+            new UserLoadEvent().commit();
+            recording.stop();
+            recording.dump(file);
+            
+            List<String> recorded = RecordingFile.readAllEvents(file).stream()
+                    .map(event -> event.getEventType().getName())
+                    .filter(EVENTS::contains)
+                    .toList();
+            
+            assertEquals(List.of(), recorded);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void passwordEncoder_ShouldDelegate_WhenNotRecording() {
+        InstrumentedPasswordEncoder encoder = new InstrumentedPasswordEncoder(new BCryptPasswordEncoder(4));
+        
+        String encoded = encoder.encode("password123");
+        
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.upgradeEncoding(encoded));
+    }
+}
@@ -0,0 +1,137 @@
+package com.dvlprmatheus.security.service.overload;
+
+import com.dvlprmatheus.security.config.overload.ConcurrencyLimitProperties;
+import com.dvlprmatheus.security.service.overload.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+    
+    private AdaptiveConcurrencyLimiter limiter;
+    
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setEnabled(true);
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(100);
+        properties.setTolerance(1.5);
+        properties.setSmoothing(0.5);
+        properties.setBackoffRatio(0.5);
+        properties.setMinSamples(5);
+        properties.setDefaultShare(0.8);
+        properties.setLoginShare(0.5);
+        properties.setRetryAfterSeconds(1L);
+        properties.setShedRatio(0.05);
+        properties.setNotReadyAfterMillis(1000L);
+        properties.setReadyAfterMillis(500L);
+        limiter = new AdaptiveConcurrencyLimiter(properties);
+    }
+    
+    @Test
+    void tryAcquire_ShouldReserveCapacityForReads_WhenLoginsSaturate() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(Priority.LOGIN));
+        }
+        assertFalse(limiter.tryAcquire(Priority.LOGIN));
+        
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(Priority.DEFAULT));
+        }
+        assertFalse(limiter.tryAcquire(Priority.DEFAULT));
+        
+        assertTrue(limiter.tryAcquire(Priority.READ));
+        assertTrue(limiter.tryAcquire(Priority.READ));
+        assertFalse(limiter.tryAcquire(Priority.READ));
+        assertEquals(10, limiter.getInFlight());
+        
+        limiter.release();
+        assertEquals(9, limiter.getInFlight());
+        assertFalse(limiter.tryAcquire(Priority.LOGIN));
+        assertTrue(limiter.tryAcquire(Priority.READ));
+    }
+    
+    @Test
+    void update_ShouldGrowLimit_WhenLatencyStaysFlatAtFullUtilisation() {
+        runWindow(10, 1_000_000L);
+        int before = limiter.getLimit();
+        
+        runWindow(limiter.getLimit(), 1_000_000L);
+        
+        assertTrue(limiter.getLimit() > before);
+    }
+    
+    @Test
+    void update_ShouldShrinkLimit_WhenLatencyRises() {
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter.getLimit(), 1_000_000L);
+        }
+        int before = limiter.getLimit();
+        
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter.getLimit(), 20_000_000L);
+        }
+        
+        assertTrue(limiter.getLimit() < before);
+    }
+    
+    @Test
+    void update_ShouldNotGrowLimit_WhenApplicationLimited() {
+        runWindow(2, 1_000_000L);
+        runWindow(2, 1_000_000L);
+        
+        assertEquals(10, limiter.getLimit());
+    }
+    
+    @Test
+    void update_ShouldBackOffMultiplicatively_WhenRequestsFail() {
+        assertTrue(limiter.tryAcquire(Priority.READ));
+        limiter.release(1_000_000L, true);
+        
+        limiter.update(0);
+        
+        assertEquals(5, limiter.getLimit());
+    }
+    
+    @Test
+    void isReady_ShouldReportNotReady_OnlyAfterSustainedShedding() {
+        fill();
+        
+        limiter.update(1_000);
+        assertTrue(limiter.isReady());
+        
+        assertFalse(limiter.tryAcquire(Priority.READ));
+        limiter.update(1_500);
+        assertTrue(limiter.isReady());
+        
+        assertFalse(limiter.tryAcquire(Priority.READ));
+        limiter.update(2_600);
+        assertFalse(limiter.isReady());
+        
+        limiter.update(2_700);
+        assertFalse(limiter.isReady());
+        limiter.update(3_300);
+        assertTrue(limiter.isReady());
+    }
+    
+    private void fill() {
+        while (limiter.tryAcquire(Priority.READ)) {
+            // keep acquiring until the limit is reached
+        }
+        limiter.update(0);
+    }
+    
+    private void runWindow(int concurrency, long rttNanos) {
+        int acquired = 0;
+        for (int i = 0; i < concurrency && limiter.tryAcquire(Priority.READ); i++) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos, false);
+        }
+        limiter.update(0);
+    }
+}
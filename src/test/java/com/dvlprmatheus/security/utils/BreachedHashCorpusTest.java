@@ -0,0 +1,109 @@
+package com.dvlprmatheus.security.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BreachedHashCorpusTest {
+    
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void algorithms_ShouldMatchKnownHashes() {
+        assertEquals("5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8",
+                HEX.formatHex(BreachedHashCorpus.Algorithm.SHA1.hash("password")));
+        assertEquals("8846F7EAEE8FB117AD06BDD830B7586C",
+                HEX.formatHex(BreachedHashCorpus.Algorithm.NTLM.hash("password")));
+        assertEquals("31D6CFE0D16AE931B73C59D7E0C089C0", HEX.formatHex(Md4.digest(new byte[0])));
+        assertEquals("E33B4DDC9C38F2199C3E7B164FCC0536", HEX.formatHex(Md4.digest(
+                "12345678901234567890123456789012345678901234567890123456789012345678901234567890".getBytes())));
+    }
+    
+    @Test
+    void contains_ShouldFindEveryConvertedHash_AcrossChunkBoundaries() throws IOException {
+        Random random = new Random(42);
+        TreeSet<String> hashes = new TreeSet<>();
+        while (hashes.size() < 5000) {
+            byte[] hash = new byte[20];
+            random.nextBytes(hash);
+            hashes.add(HEX.formatHex(hash));
+        }
+        hashes.add("0000" + "0".repeat(36));
+        hashes.add("FFFF" + "F".repeat(36));
+        hashes.add(HEX.formatHex(BreachedHashCorpus.Algorithm.SHA1.hash("password")));
+        List<String> lines = new ArrayList<>();
+        for (String hash : hashes) {
+            lines.add(hash + ":" + (1 + random.nextInt(5)));
+        }
+        Path input = Files.write(directory.resolve("corpus.txt"), lines);
+        Path output = directory.resolve("corpus.bin");
+        
+        assertEquals(hashes.size(), BreachedHashCorpusConverter.convert(input, output, 1));
+        BreachedHashCorpus corpus = BreachedHashCorpus.open(output, 18 * 100 + 7);
+        
+        assertEquals(hashes.size(), corpus.size());
+        for (String hash : hashes) {
+            assertTrue(corpus.contains(HEX.parseHex(hash)), hash);
+        }
+        for (int i = 0; i < 5000; i++) {
+            byte[] hash = new byte[20];
+            random.nextBytes(hash);
+            assertEquals(hashes.contains(HEX.formatHex(hash)), corpus.contains(hash));
+        }
+        assertTrue(corpus.containsPassword("password"));
+        assertFalse(corpus.containsPassword("correct horse battery staple"));
+    }
+    
+    @Test
+    void convert_ShouldDropDuplicatesAndRareHashes_AndDetectNtlm() throws IOException {
+        Path input = Files.write(directory.resolve("ntlm.txt"), List.of(
+                "31D6CFE0D16AE931B73C59D7E0C089C0:1",
+                "8846F7EAEE8FB117AD06BDD830B7586C:10",
+                "8846f7eaee8fb117ad06bdd830b7586c:10",
+                ""));
+        Path output = directory.resolve("ntlm.bin");
+        
+        assertEquals(1, BreachedHashCorpusConverter.convert(input, output, 2));
+        BreachedHashCorpus corpus = BreachedHashCorpus.open(output);
+        
+        assertEquals(BreachedHashCorpus.Algorithm.NTLM, corpus.algorithm());
+        assertTrue(corpus.containsPassword("password"));
+        assertFalse(corpus.containsPassword(""));
+    }
+    
+    @Test
+    void convert_ShouldRejectUnsortedInput() throws IOException {
+        Path input = Files.write(directory.resolve("unsorted.txt"), List.of(
+                "8846F7EAEE8FB117AD06BDD830B7586C:1",
+                "31D6CFE0D16AE931B73C59D7E0C089C0:1"));
+        
+        assertThrows(IllegalArgumentException.class,
+                () -> BreachedHashCorpusConverter.convert(input, directory.resolve("unsorted.bin"), 1));
+    }
+    
+    @Test
+    void open_ShouldRejectTruncatedFiles() throws IOException {
+        Path input = Files.write(directory.resolve("corpus.txt"), List.of("5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8:3"));
+        Path output = directory.resolve("corpus.bin");
+        BreachedHashCorpusConverter.convert(input, output, 1);
+        byte[] bytes = Files.readAllBytes(output);
+        Path truncated = Files.write(directory.resolve("truncated.bin"), Arrays.copyOf(bytes, bytes.length - 1));
+        
+        assertThrows(IllegalArgumentException.class, () -> BreachedHashCorpus.open(truncated));
+        assertThrows(IllegalArgumentException.class, () -> BreachedHashCorpus.open(input));
+    }
+}
@@ -0,0 +1,180 @@
+package com.dvlprmatheus.security.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HmacJwtVerifierTest {
+
+    private static final String[] SECRETS = {
+            "a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6",
+            "a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6e7f8a9b0c1d2e3f4",
+            "a1b2c3d4e5f6a7b8c9d0e1f2a3b4c5d6e7f8a9b0c1d2e3f4a5b6c7d8e9f0a1b2"
+    };
+
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_.=+/ ";
+
+    @Test
+    void verify_ShouldMatchJjwt_ForTokensIssuedByJjwt() {
+        for (String secret : SECRETS) {
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            HmacJwtVerifier verifier = new HmacJwtVerifier(key);
+            long now = System.currentTimeMillis() / 1000 * 1000;
+            String token = Jwts.builder()
+                    .subject("testuser")
+                    .issuedAt(new Date(now))
+                    .expiration(new Date(now + 60_000))
+                    .signWith(key)
+                    .compact();
+
+            HmacJwtVerifier.VerifiedToken verified = verifier.verify(token);
+
+            assertNotNull(verified);
+            assertEquals("testuser", verified.subject());
+            assertEquals(now, verified.issuedAt());
+            assertEquals(now + 60_000, verified.expiresAt());
+        }
+    }
+
+    @Test
+    void verify_ShouldReject_WhenSignedWithAnotherKey() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRETS[0].getBytes(StandardCharsets.UTF_8));
+        SecretKey otherKey = Keys.hmacShaKeyFor("ffffffffffffffffffffffffffffffff".getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .subject("testuser")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(otherKey)
+                .compact();
+
+        assertSame(HmacJwtVerifier.REJECTED, new HmacJwtVerifier(key).verify(token));
+    }
+
+    @Test
+    void verify_ShouldReturnNull_ForUnexpectedHeadersAndClaims() throws Exception {
+        SecretKey key = Keys.hmacShaKeyFor(SECRETS[0].getBytes(StandardCharsets.UTF_8));
+        HmacJwtVerifier verifier = new HmacJwtVerifier(key);
+        long exp = System.currentTimeMillis() / 1000 + 60;
+
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"none\"}", "{\"sub\":\"a\",\"exp\":" + exp + "}")));
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"HS256\",\"kid\":\"1\"}", "{\"sub\":\"a\",\"exp\":" + exp + "}")));
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"HS256\"}", "{\"sub\":\"a\",\"exp\":" + exp + ",\"nbf\":" + exp + "}")));
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"HS256\"}", "{\"sub\":\"a\",\"sub\":\"b\",\"exp\":" + exp + "}")));
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"HS256\"}", "{\"sub\":\"a\\u0062\",\"exp\":" + exp + "}")));
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"HS256\"}", "{\"sub\":\"a\",\"roles\":[\"ADMIN\"],\"exp\":" + exp + "}")));
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"HS256\"}", "{\"sub\":\"a\"}")));
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"HS256\"}", "{\"sub\":\"a\",\"scope\":\"x\",\"scope\":\"y\",\"exp\":" + exp + "}")));
+        assertNull(verifier.verify(sign(key, "{\"alg\":\"HS256\"}", "{\"sub\":\"a\",\"scope\":1,\"exp\":" + exp + "}")));
+        assertEquals("x", verifier.verify(sign(key, "{\"alg\":\"HS256\",\"typ\":\"JWT\"}", "{\"sub\":\"a\",\"scope\":\"x\",\"exp\":" + exp + "}")).scope());
+    }
+
+    @Test
+    void verify_ShouldAgreeWithJjwt_WhenFuzzed() throws Exception {
+        Random random = new Random(20240601L);
+        for (String secret : SECRETS) {
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            HmacJwtVerifier verifier = new HmacJwtVerifier(key);
+            List<String> seeds = seedTokens(key);
+
+            for (int i = 0; i < 20_000; i++) {
+                String token = mutate(seeds.get(random.nextInt(seeds.size())), random);
+                HmacJwtVerifier.VerifiedToken verified = verifier.verify(token);
+                if (verified == null) {
+                    if (jjwtAccepts(key, token)) {
+                        assertFalse(isCanonical(token), "fast path fell back on a canonical token jjwt accepts: " + token);
+                    }
+                    continue;
+                }
+                if (verified == HmacJwtVerifier.REJECTED) {
+                    assertThrows(Exception.class, () -> Jwts.parser().verifyWith(key).build().parseSignedClaims(token), token);
+                    continue;
+                }
+                Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+                assertEquals(claims.getSubject(), verified.subject(), token);
+                assertEquals(claims.getExpiration().getTime(), verified.expiresAt(), token);
+                long issuedAt = claims.getIssuedAt() == null ? -1 : claims.getIssuedAt().getTime();
+                assertEquals(issuedAt, verified.issuedAt(), token);
+                assertEquals(claims.get("scope", String.class), verified.scope(), token);
+            }
+        }
+    }
+
+    private boolean jjwtAccepts(SecretKey key, String token) {
+        try {
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isCanonical(String token) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 3) {
+            return false;
+        }
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        for (String part : parts) {
+            try {
+                if (!encoder.encodeToString(Base64.getUrlDecoder().decode(part)).equals(part)) {
+                    return false;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<String> seedTokens(SecretKey key) throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        String alg = "HS" + (Mac.getInstance(key.getAlgorithm()).getMacLength() * 8);
+        List<String> seeds = new ArrayList<>();
+        seeds.add(Jwts.builder().subject("testuser").issuedAt(new Date()).expiration(new Date(now * 1000 + 60_000)).signWith(key).compact());
+        seeds.add(Jwts.builder().subject("a").claim("scope", "x").expiration(new Date(now * 1000 + 60_000)).signWith(key).compact());
+        seeds.add(sign(key, "{\"alg\":\"" + alg + "\"}", " { \"sub\" : \"spaced\" , \"exp\" : " + (now + 60) + " } "));
+        seeds.add(sign(key, "{\"alg\":\"" + alg + "\",\"typ\":\"JWT\"}", "{\"x\":null,\"y\":true,\"z\":-1,\"sub\":\"u\",\"exp\":" + (now + 60) + "}"));
+        return seeds;
+    }
+
+    private String mutate(String token, Random random) {
+        StringBuilder mutated = new StringBuilder(token);
+        int mutations = 1 + random.nextInt(3);
+        for (int i = 0; i < mutations && !mutated.isEmpty(); i++) {
+            int position = random.nextInt(mutated.length());
+            switch (random.nextInt(5)) {
+                case 0 -> mutated.setCharAt(position, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                case 1 -> mutated.deleteCharAt(position);
+                case 2 -> mutated.insert(position, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                case 3 -> mutated.setLength(position);
+                default -> {
+                    if (random.nextInt(4) != 0) {
+                        return token;
+                    }
+                    mutated.setCharAt(mutated.length() - 1, ALPHABET.charAt(random.nextInt(64)));
+                }
+            }
+        }
+        return mutated.toString();
+    }
+
+    private String sign(SecretKey key, String header, String payload) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance(key.getAlgorithm());
+        mac.init(key);
+        return signingInput + "." + encoder.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,25 @@
+package com.dvlprmatheus.security.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonEscaperTest {
+    
+    @Test
+    void escape_ShouldReturnSameInstance_WhenNothingNeedsEscaping() {
+        String value = "/auth/login";
+        
+        assertSame(value, JsonEscaper.escape(value));
+    }
+    
+    @Test
+    void escape_ShouldEscapeQuotesBackslashesAndControlCharacters() {
+        assertEquals("a\\\"b\\\\c\\nd\\u0001", JsonEscaper.escape("a\"b\\c\nd\u0001"));
+    }
+    
+    @Test
+    void escape_ShouldReturnEmptyString_WhenValueIsNull() {
+        assertEquals("", JsonEscaper.escape(null));
+    }
+}
@@ -87,6 +87,39 @@ class JwtUtilTest {
         assertFalse(isValid);
     }
     
+    @Test
+    void generateClientToken_ShouldCarryScope_AndNotValidateAsUserToken() {
+        String userToken = jwtUtil.generateToken(user);
+        String clientToken = jwtUtil.generateClientToken("testuser", "users:read", 60_000L);
+        
+        assertEquals("testuser", jwtUtil.extractUsername(clientToken));
+        assertEquals("users:read", jwtUtil.extractScope(clientToken));
+        assertNull(jwtUtil.extractScope(userToken));
+        assertFalse(jwtUtil.validateToken(clientToken, user));
+        assertTrue(jwtUtil.validateToken(userToken, user));
+    }
+    
+    @Test
+    void parseToken_ShouldExposeSubjectScopeAndExpiry_FromOneParse() {
+        String token = jwtUtil.generateClientToken("reporting", "users:read", 60_000L);
+        
+        HmacJwtVerifier.VerifiedToken parsed = jwtUtil.parseToken(token);
+        
+        assertEquals("reporting", parsed.subject());
+        assertEquals("users:read", parsed.scope());
+        assertTrue(parsed.expiresAt() > System.currentTimeMillis());
+        assertTrue(parsed.issuedAt() <= System.currentTimeMillis());
+    }
+    
+    @Test
+    void validateToken_ShouldUseParsedToken_WithoutReparsing() {
+        HmacJwtVerifier.VerifiedToken parsed = jwtUtil.parseToken(jwtUtil.generateToken(user));
+        HmacJwtVerifier.VerifiedToken expired = new HmacJwtVerifier.VerifiedToken("testuser", 0, 1, null);
+        
+        assertTrue(jwtUtil.validateToken(parsed, user));
+        assertFalse(jwtUtil.validateToken(expired, user));
+    }
+    
     @Test
     void isTokenExpired_ShouldReturnFalse_WhenTokenIsNotExpired() {
         String token = jwtUtil.generateToken(user);
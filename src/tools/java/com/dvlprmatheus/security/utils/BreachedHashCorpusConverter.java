@@ -0,0 +1,122 @@
+package com.dvlprmatheus.security.utils;
+
+import com.dvlprmatheus.security.utils.BreachedHashCorpus.Algorithm;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+public final class BreachedHashCorpusConverter {
+    
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final long PROGRESS_EVERY_LINES = 100_000_000L;
+    
+    private BreachedHashCorpusConverter() {
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BreachedHashCorpusConverter <sorted HASH:COUNT text file> <output file> [min count]");
+            System.exit(2);
+        }
+        long start = System.nanoTime();
+        long written = convert(Path.of(args[0]), Path.of(args[1]), args.length == 3 ? Long.parseLong(args[2]) : 1);
+        System.out.printf("Wrote %d hashes to %s in %d s%n", written, args[1], (System.nanoTime() - start) / 1_000_000_000L);
+    }
+    
+    public static long convert(Path input, Path output, long minCount) throws IOException {
+        long[] bucketCounts = new long[BreachedHashCorpus.BUCKETS];
+        HexFormat hex = HexFormat.of();
+        Algorithm algorithm = null;
+        byte[] previous = null;
+        long records = 0;
+        long lineNumber = 0;
+        
+        try (BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(Files.newInputStream(input), StandardCharsets.US_ASCII), BUFFER_BYTES);
+             FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            
+            channel.position(BreachedHashCorpus.HEADER_BYTES + BreachedHashCorpus.INDEX_BYTES);
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_BYTES);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber % PROGRESS_EVERY_LINES == 0) {
+                    System.out.printf("Read %d lines, kept %d hashes%n", lineNumber, records);
+                }
+                line = line.strip();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                int colon = line.indexOf(':');
+                String hash = colon < 0 ? line : line.substring(0, colon);
+                long count = colon < 0 ? 1 : Long.parseLong(line.substring(colon + 1).strip());
+                if (algorithm == null) {
+                    algorithm = switch (hash.length()) {
+                        case 40 -> Algorithm.SHA1;
+                        case 32 -> Algorithm.NTLM;
+                        default -> throw new IllegalArgumentException("Line " + lineNumber + ": expected a SHA-1 or NTLM hex hash");
+                    };
+                }
+                if (hash.length() != algorithm.hashLength() * 2) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": expected a " + algorithm + " hex hash");
+                }
+                
+                byte[] bytes = hex.parseHex(hash);
+                if (previous != null) {
+                    int comparison = Arrays.compareUnsigned(previous, bytes);
+                    if (comparison > 0) {
+                        throw new IllegalArgumentException("Line " + lineNumber + ": input must be sorted by hash");
+                    }
+                    if (comparison == 0) {
+                        continue;
+                    }
+                }
+                previous = bytes;
+                if (count < minCount) {
+                    continue;
+                }
+                
+                bucketCounts[(bytes[0] & 0xff) << 8 | (bytes[1] & 0xff)]++;
+                out.write(bytes, BreachedHashCorpus.PREFIX_BYTES, bytes.length - BreachedHashCorpus.PREFIX_BYTES);
+                records++;
+            }
+            out.flush();
+            
+            writeHeader(channel, algorithm == null ? Algorithm.SHA1 : algorithm, records, bucketCounts);
+        }
+        return records;
+    }
+    
+    private static void writeHeader(FileChannel channel, Algorithm algorithm, long records, long[] bucketCounts) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BreachedHashCorpus.HEADER_BYTES + BreachedHashCorpus.INDEX_BYTES);
+        header.putInt(BreachedHashCorpus.MAGIC)
+                .putShort(BreachedHashCorpus.VERSION)
+                .put((byte) algorithm.id())
+                .put((byte) algorithm.hashLength())
+                .putLong(records);
+        header.position(BreachedHashCorpus.HEADER_BYTES);
+        long start = 0;
+        for (long bucketCount : bucketCounts) {
+            header.putLong(start);
+            start += bucketCount;
+        }
+        header.putLong(start);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+}